@@ -0,0 +1,111 @@
+package cpuscheduler;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Safety check on a generated safe state. With order=reverse the only safe sequence runs from the
+// last process to the first, which is the worst case for a scan in index order.
+// scan is the original rescanning loop, kept here as the baseline; isSafe goes through the
+// int[][] entry point, worklist reuses a flat BankersState and SafetyCheck.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g"})
+public class BankersBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int processes;
+
+    @Param({"4", "32"})
+    public int resources;
+
+    @Param({"forward", "reverse"})
+    public String order;
+
+    private int[] ids;
+    private int[] available;
+    private int[][] max;
+    private int[][] allocation;
+    private BankersState state;
+    private SafetyCheck check;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        ids = new int[processes];
+        available = new int[resources];
+        max = new int[processes][resources];
+        allocation = new int[processes][resources];
+
+        int[] work = new int[resources];
+        for (int j = 0; j < resources; j++) {
+            available[j] = work[j] = 1 + random.nextInt(10);
+        }
+        // Each process in the chain needs exactly the current work on resource 0,
+        // so it only becomes runnable once its predecessor has released.
+        for (int k = 0; k < processes; k++) {
+            int p = order.equals("forward") ? k : processes - 1 - k;
+            ids[p] = p;
+            for (int j = 0; j < resources; j++) {
+                int need = j == 0 ? work[0] : random.nextInt(work[j] + 1);
+                allocation[p][j] = 1 + random.nextInt(3);
+                max[p][j] = allocation[p][j] + need;
+            }
+            for (int j = 0; j < resources; j++) {
+                work[j] += allocation[p][j];
+            }
+        }
+        state = BankersState.from(max, allocation, available, processes, resources);
+        check = new SafetyCheck(processes, resources);
+    }
+
+    @Benchmark
+    public int[] isSafe() {
+        return BankersAlgorithm.safeSequence(ids, available, max, allocation, processes, resources);
+    }
+
+    @Benchmark
+    public int[] worklist() {
+        return check.safeSequence(state);
+    }
+
+    @Benchmark
+    public int[] scan() {
+        return scanSafeSequence(available, max, allocation, processes, resources);
+    }
+
+    private static int[] scanSafeSequence(int[] avail, int[][] maxm, int[][] allot, int P, int R) {
+        int[][] need = new int[P][R];
+        BankersAlgorithm.calculateNeed(need, maxm, allot, P, R);
+        boolean[] finish = new boolean[P];
+        int[] safeSeq = new int[P];
+        int[] work = avail.clone();
+        int count = 0;
+        while (count < P) {
+            boolean found = false;
+            for (int p = 0; p < P; p++) {
+                if (!finish[p]) {
+                    int j;
+                    for (j = 0; j < R; j++) {
+                        if (need[p][j] > work[j])
+                            break;
+                    }
+                    if (j == R) {
+                        for (int k = 0; k < R; k++)
+                            work[k] += allot[p][k];
+                        safeSeq[count++] = p;
+                        finish[p] = true;
+                        found = true;
+                    }
+                }
+            }
+            if (!found) {
+                return null;
+            }
+        }
+        return safeSeq;
+    }
+}
@@ -0,0 +1,55 @@
+package cpuscheduler;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// waitThenFinish is one step of an incremental wait-for graph: a random process starts waiting
+// on another, and a random process finishes and drops its edges. detect is one full
+// multi-instance detection pass over the same number of processes, for comparison.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DeadlockBenchmark {
+    @Param({"10000", "50000"})
+    public int processes;
+
+    private static final int RESOURCES = 4;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private WaitForGraph graph;
+    private DeadlockDetector detector;
+    private int[] request, allocation, available;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = new WaitForGraph(processes);
+        detector = new DeadlockDetector(processes, RESOURCES);
+        request = new int[processes * RESOURCES];
+        allocation = new int[processes * RESOURCES];
+        available = new int[RESOURCES];
+        for (int i = 0; i < request.length; i++) {
+            allocation[i] = random.nextInt(3);
+            request[i] = random.nextInt(4);
+        }
+        for (int j = 0; j < RESOURCES; j++) {
+            available[j] = 2;
+        }
+    }
+
+    @Benchmark
+    public int[] waitThenFinish() {
+        int[] cycle = graph.addEdge(random.nextInt(processes), random.nextInt(processes));
+        graph.removeAll(random.nextInt(processes));
+        return cycle;
+    }
+
+    @Benchmark
+    public int[] detect() {
+        return detector.deadlocked(request, allocation, available);
+    }
+}
@@ -0,0 +1,50 @@
+package cpuscheduler;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Simulates a random task set over `horizon` time units per operation, counting slots only.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RealTimeBenchmark {
+    @Param({"RM", "EDF"})
+    public String algorithm;
+
+    @Param({"10", "100", "1000"})
+    public int tasks;
+
+    @Param({"1000", "100000", "10000000"})
+    public int horizon;
+
+    private List<RMScheduler.Task> rmTasks;
+    private List<EDFScheduler.Task> edfTasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[][] set = Workloads.taskSet(tasks, 42);
+        rmTasks = new ArrayList<>();
+        edfTasks = new ArrayList<>();
+        for (int i = 0; i < set.length; i++) {
+            rmTasks.add(new RMScheduler.Task(i, set[i][0], set[i][1]));
+            edfTasks.add(new EDFScheduler.Task(i, set[i][0], set[i][1]));
+        }
+    }
+
+    @Benchmark
+    public long simulate() {
+        CountingSlotSink sink = new CountingSlotSink();
+        if (algorithm.equals("RM")) {
+            RMScheduler.simulateRMS(rmTasks, horizon, sink);
+        } else {
+            EDFScheduler.simulateEDF(edfTasks, horizon, sink);
+        }
+        return sink.slots;
+    }
+}
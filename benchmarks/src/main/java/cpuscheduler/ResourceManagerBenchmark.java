@@ -0,0 +1,76 @@
+package cpuscheduler;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Request/release stream against one shared ResourceManager. Every process may claim up to 10
+// of each resource and the pool holds 2 per process, so the state stays close to unsafe and both
+// the margin check and the full safety check get exercised. Run with -t N for N client threads.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ResourceManagerBenchmark {
+    @Param({"1000", "10000"})
+    public int processes;
+
+    @Param({"4", "32"})
+    public int resources;
+
+    private ResourceManager manager;
+
+    @State(Scope.Thread)
+    public static class Client {
+        final SplittableRandom random = new SplittableRandom();
+        int[] request;
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BankersState state = new BankersState(processes, resources);
+        for (int j = 0; j < resources; j++) {
+            state.available[j] = 2 * processes;
+        }
+        for (int p = 0; p < processes; p++) {
+            for (int j = 0; j < resources; j++) {
+                state.set(p, j, 10, 0);
+            }
+        }
+        manager = new ResourceManager(state);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.printf("%n  grants/s %.0f, fast checks %d of %d grants, waits %d, unsafe %d%n",
+                manager.grantsPerSecond(), manager.fastChecks(), manager.grants(),
+                manager.waits(), manager.denials());
+    }
+
+    @Benchmark
+    public ResourceManager.Decision requestRelease(Client client) {
+        if (client.request == null) {
+            client.request = new int[resources];
+        }
+        int p = client.random.nextInt(processes);
+        if (client.random.nextInt(4) == 0) {
+            manager.releaseAll(p);
+            return null;
+        }
+        // Ask for up to 2 more of each resource, within the remaining claim. Reading the
+        // allocation and requesting are separate calls, so another thread may change it in
+        // between; the manager then rejects the request and we count nothing.
+        for (int j = 0; j < resources; j++) {
+            int left = 10 - manager.allocated(p, j);
+            client.request[j] = left <= 0 ? 0 : client.random.nextInt(Math.min(left, 2) + 1);
+        }
+        try {
+            return manager.request(p, client.request);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
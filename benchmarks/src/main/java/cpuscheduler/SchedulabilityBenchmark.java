@@ -0,0 +1,70 @@
+package cpuscheduler;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Analytical schedulability tests on a random task set at 90% utilization: QPA for EDF with
+// deadlines up to 20% shorter than the periods, and exact response-time analysis for RM.
+// Neither depends on the hyperperiod, unlike RealTimeBenchmark's simulation. Setup rejects
+// overloaded sets and prints both verdicts, so the timings are of complete analyses.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchedulabilityBenchmark {
+    @Param({"10", "100", "1000"})
+    public int tasks;
+
+    private List<RMScheduler.Task> rmTasks;
+    private List<EDFScheduler.Task> edfTasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[][] set = Workloads.taskSet(tasks, 42);
+        SplittableRandom random = new SplittableRandom(7);
+        rmTasks = new ArrayList<>();
+        edfTasks = new ArrayList<>();
+        for (int i = 0; i < set.length; i++) {
+            int period = set[i][0];
+            rmTasks.add(new RMScheduler.Task(i, period, set[i][1]));
+            edfTasks.add(new EDFScheduler.Task(i, period, set[i][1], period - random.nextInt(period / 5 + 1)));
+        }
+        // The utilization check is the first step of both tests; a set above 1 would only time that
+        double utilization = 0;
+        for (int[] task : set) {
+            utilization += (double) task[1] / task[0];
+        }
+        if (utilization > 1.0) {
+            throw new IllegalStateException("Task set is overloaded: U = " + utilization);
+        }
+        System.out.printf("%n  U = %.3f, EDF demand test %s, RM misses %d%n", utilization,
+                EDFScheduler.demandTest(edfTasks) ? "passes" : "fails", rmMisses());
+    }
+
+    private int rmMisses() {
+        long[] response = RMScheduler.responseTimes(rmTasks);
+        int misses = 0;
+        for (int i = 0; i < response.length; i++) {
+            if (response[i] > rmTasks.get(i).period) {
+                misses++;
+            }
+        }
+        return misses;
+    }
+
+    @Benchmark
+    public boolean edfDemand() {
+        return EDFScheduler.demandTest(edfTasks);
+    }
+
+    @Benchmark
+    public long[] rmResponseTimes() {
+        return RMScheduler.responseTimes(rmTasks);
+    }
+}
@@ -0,0 +1,67 @@
+package cpuscheduler;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// One full schedule() call per operation. The full parameter grid is large; narrow it with -p,
+// e.g. -p processes=1000,100000 -p algorithm=SRTF,RR
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx16g"})
+public class SchedulerBenchmark {
+    @Param({"FCFS", "SJF", "SRTF", "RR", "PP", "PNP", "MLFQ", "CFS", "Lottery", "Stride"})
+    public String algorithm;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int processes;
+
+    @Param({"dense", "sparse"})
+    public String arrivals;
+
+    @Param({"uniform", "exponential", "bimodal"})
+    public String bursts;
+
+    @Param({"4"})
+    public int quantum;
+
+    private List<Process> workload;
+    private ProcessTable table;
+    private Scheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workload = Workloads.processes(processes, arrivals, bursts, 42);
+        table = ProcessTable.from(workload);
+        scheduler = Schedulers.create(algorithm);
+    }
+
+    // Schedulers write their results into the Process objects
+    @Setup(Level.Invocation)
+    public void reset() {
+        for (Process p : workload) {
+            p.reset();
+        }
+        table.reset();
+    }
+
+    @Benchmark
+    public List<GanttEntry> schedule() {
+        List<GanttEntry> ganttEntries = new ArrayList<>();
+        scheduler.schedule(workload, ganttEntries, quantum);
+        return ganttEntries;
+    }
+
+    // Same run on the column-oriented table, without the List<Process> round trip
+    @Benchmark
+    public List<GanttEntry> scheduleTable() {
+        List<GanttEntry> ganttEntries = new ArrayList<>();
+        scheduler.schedule(table, ganttEntries, quantum);
+        return ganttEntries;
+    }
+}
@@ -0,0 +1,77 @@
+package cpuscheduler;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 500 candidate requests of up to 2 of each resource against one random safe state, every
+// process claiming up to 10 of each resource with a pool close to what the claims need.
+// evaluate is the parallel batch; copyEach is the straightforward baseline that copies the
+// state and runs a full check per candidate.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WhatIfBenchmark {
+    @Param({"1000", "10000"})
+    public int processes;
+
+    @Param({"4", "32"})
+    public int resources;
+
+    private BankersState state;
+    private WhatIfAnalysis.Request[] candidates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        state = new BankersState(processes, resources);
+        for (int j = 0; j < resources; j++) {
+            state.available[j] = 16;
+        }
+        for (int p = 0; p < processes; p++) {
+            for (int j = 0; j < resources; j++) {
+                state.set(p, j, 10, random.nextInt(4));
+            }
+        }
+        candidates = new WhatIfAnalysis.Request[500];
+        for (int i = 0; i < candidates.length; i++) {
+            int p = random.nextInt(processes);
+            int[] amounts = new int[resources];
+            for (int j = 0; j < resources; j++) {
+                amounts[j] = random.nextInt(Math.min(state.need(p, j), 2) + 1);
+            }
+            candidates[i] = new WhatIfAnalysis.Request(p, amounts);
+        }
+    }
+
+    @Benchmark
+    public ResourceManager.Decision[] evaluate() {
+        return new WhatIfAnalysis(state).evaluate(candidates);
+    }
+
+    @Benchmark
+    public boolean[] copyEach() {
+        boolean[] safe = new boolean[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            WhatIfAnalysis.Request c = candidates[i];
+            BankersState copy = new BankersState(processes, resources);
+            System.arraycopy(state.max, 0, copy.max, 0, state.max.length);
+            System.arraycopy(state.allocation, 0, copy.allocation, 0, state.allocation.length);
+            System.arraycopy(state.need, 0, copy.need, 0, state.need.length);
+            System.arraycopy(state.available, 0, copy.available, 0, resources);
+            boolean fits = true;
+            for (int j = 0; j < resources; j++) {
+                fits &= c.amounts[j] <= copy.available[j];
+                copy.available[j] -= c.amounts[j];
+                copy.set(c.process, j, copy.max[c.process * resources + j],
+                        copy.allocation[c.process * resources + j] + c.amounts[j]);
+            }
+            safe[i] = fits && new SafetyCheck(processes, resources).isSafe(copy);
+        }
+        return safe;
+    }
+}
@@ -0,0 +1,79 @@
+package cpuscheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Synthetic workloads for the benchmarks. Everything is derived from the seed, so runs are repeatable.
+final class Workloads {
+    private Workloads() {
+    }
+
+    // arrivals: "dense" keeps a long ready queue (mean gap = mean burst / 4),
+    //           "sparse" leaves the CPU idle between most jobs (mean gap = 2 * mean burst)
+    // bursts:   "uniform" 1..100, "exponential" with mean 50,
+    //           "bimodal" 90% short (1..10) and 10% long (200..1000)
+    static List<Process> processes(int n, String arrivals, String bursts, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double meanGap = arrivals.equals("dense") ? 50 / 4.0 : 100;
+        List<Process> processes = new ArrayList<>(n);
+        double time = 0;
+        for (int i = 0; i < n; i++) {
+            time += -meanGap * Math.log(1 - random.nextDouble());
+            processes.add(new Process("P" + i, (int) time, burst(random, bursts), random.nextInt(10)));
+        }
+        return processes;
+    }
+
+    private static int burst(SplittableRandom random, String bursts) {
+        switch (bursts) {
+            case "uniform":
+                return 1 + random.nextInt(100);
+            case "exponential":
+                return 1 + (int) (-49 * Math.log(1 - random.nextDouble()));
+            case "bimodal":
+                return random.nextInt(10) < 9 ? 1 + random.nextInt(10) : 200 + random.nextInt(801);
+            default:
+                throw new IllegalArgumentException("Unknown burst distribution: " + bursts);
+        }
+    }
+
+    // Periodic tasks with a total utilization of at most 0.9. Per-task utilizations come from
+    // UUniFast, so they are unbiased and sum to exactly 0.9 before rounding. Periods are drawn from
+    // [10, 1000] times max(1, n / 10), so a typical task still has a WCET of tens of units, and the
+    // WCET is rounded down so rounding never adds load; tasks whose share is below one unit get 1.
+    static int[][] taskSet(int n, long seed) {
+        return taskSet(n, 0.9, seed);
+    }
+
+    static int[][] taskSet(int n, double utilization, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int scale = Math.max(1, n / 10);
+        double[] shares = uuniFast(n, utilization, random);
+        int[][] tasks = new int[n][2];
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            int period = (10 + random.nextInt(991)) * scale;
+            tasks[i][0] = period;
+            tasks[i][1] = Math.max(1, (int) (shares[i] * period));
+            total += (double) tasks[i][1] / period;
+        }
+        if (total > utilization + 0.01) {
+            throw new IllegalStateException("Task set utilization " + total + " exceeds " + utilization);
+        }
+        return tasks;
+    }
+
+    // UUniFast (Bini & Buttazzo): n utilizations drawn uniformly from those summing to `total`
+    private static double[] uuniFast(int n, double total, SplittableRandom random) {
+        double[] shares = new double[n];
+        double sum = total;
+        for (int i = 0; i < n - 1; i++) {
+            double next = sum * Math.pow(random.nextDouble(), 1.0 / (n - 1 - i));
+            shares[i] = sum - next;
+            sum = next;
+        }
+        shares[n - 1] = sum;
+        return shares;
+    }
+}
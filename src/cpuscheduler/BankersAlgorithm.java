@@ -48,17 +48,22 @@ public class BankersAlgorithm extends JFrame {
         // Control buttons
         JPanel buttonPanel = new JPanel();
         JButton checkSafetyBtn = new JButton("Check Safety");
+        JButton whatIfBtn = new JButton("What-If Requests");
         JButton resetBtn = new JButton("Reset");
 
         checkSafetyBtn.setBackground(new Color(39, 174, 96));
         checkSafetyBtn.setForeground(Color.WHITE);
+        whatIfBtn.setBackground(new Color(41, 128, 185));
+        whatIfBtn.setForeground(Color.WHITE);
         resetBtn.setBackground(new Color(142, 68, 173));
         resetBtn.setForeground(Color.WHITE);
 
         checkSafetyBtn.addActionListener(e -> checkSafety());
+        whatIfBtn.addActionListener(e -> evaluateRequests());
         resetBtn.addActionListener(e -> startBankers());
 
         buttonPanel.add(checkSafetyBtn);
+        buttonPanel.add(whatIfBtn);
         buttonPanel.add(resetBtn);
         add(buttonPanel, BorderLayout.SOUTH);
     }
@@ -143,7 +148,7 @@ public class BankersAlgorithm extends JFrame {
     }
 
     // Your exact logic for calculating need matrix
-    private void calculateNeed(int need[][], int maxm[][], int allot[][], int P, int R) {
+    static void calculateNeed(int need[][], int maxm[][], int allot[][], int P, int R) {
         for (int i = 0; i < P; i++) {
             for (int j = 0; j < R; j++) {
                 need[i][j] = maxm[i][j] - allot[i][j];
@@ -231,43 +236,93 @@ public class BankersAlgorithm extends JFrame {
         resultArea.setText(sb.toString());
     }
 
-    // Your exact safety check logic
-    private boolean isSafe(int processes[], int avail[], int maxm[][], int allot[][], int P, int R) {
-        int[][] need = new int[P][R];
-        calculateNeed(need, maxm, allot, P, R);
-
-        boolean[] finish = new boolean[P];
-        int[] safeSeq = new int[P];
-        int[] work = new int[R];
-
-        for (int i = 0; i < R; i++)
-            work[i] = avail[i];
-
-        int count = 0;
-        while (count < P) {
-            boolean found = false;
-            for (int p = 0; p < P; p++) {
-                if (!finish[p]) {
-                    int j;
-                    for (j = 0; j < R; j++) {
-                        if (need[p][j] > work[j])
-                            break;
-                    }
+    // Asks for candidate requests, one "P<i>: a,b,c" per line, and lists which of them could each
+    // be granted safely from the current state
+    private void evaluateRequests() {
+        if (available == null) {
+            return;
+        }
+        JTextArea input = new JTextArea(10, 30);
+        input.setFont(new Font("Courier New", Font.PLAIN, 14));
+        int choice = JOptionPane.showConfirmDialog(this, new Object[]{
+                "Enter one request per line, e.g. P1: 1,0,2", new JScrollPane(input)},
+                "What-If Requests", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (choice != JOptionPane.OK_OPTION) {
+            return;
+        }
 
-                    if (j == R) {
-                        for (int k = 0; k < R; k++)
-                            work[k] += allot[p][k];
+        WhatIfAnalysis.Request[] candidates;
+        try {
+            candidates = input.getText().lines()
+                    .filter(line -> !line.isBlank())
+                    .map(this::parseRequest)
+                    .toArray(WhatIfAnalysis.Request[]::new);
+        } catch (RuntimeException e) {
+            JOptionPane.showMessageDialog(this, "Invalid request format! Use P<i>: a,b,c", "Error",
+                    JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        BankersState state = BankersState.from(max, allocation, available, numProcesses, numResources);
+        new SwingWorker<ResourceManager.Decision[], Void>() {
+            @Override
+            protected ResourceManager.Decision[] doInBackground() {
+                return new WhatIfAnalysis(state).evaluate(candidates);
+            }
 
-                        safeSeq[count++] = p;
-                        finish[p] = true;
-                        found = true;
+            @Override
+            protected void done() {
+                ResourceManager.Decision[] decisions;
+                try {
+                    decisions = get();
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    JOptionPane.showMessageDialog(BankersAlgorithm.this, cause.getMessage(), "Error",
+                            JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                StringBuilder sb = new StringBuilder(resultArea.getText());
+                sb.append("\n=== WHAT-IF REQUESTS ===\n\n");
+                for (int i = 0; i < candidates.length; i++) {
+                    sb.append("P").append(candidates[i].process).append(" requests ");
+                    for (int j = 0; j < numResources; j++) {
+                        sb.append(candidates[i].amounts[j]).append(" ");
+                    }
+                    switch (decisions[i]) {
+                        case GRANTED:
+                            sb.append("→ safe to grant\n");
+                            break;
+                        case WAIT:
+                            sb.append("→ must wait, not enough available\n");
+                            break;
+                        default:
+                            sb.append("→ unsafe\n");
                     }
                 }
+                sb.append(WhatIfAnalysis.granted(decisions).length).append(" of ")
+                        .append(candidates.length).append(" requests can be granted safely\n");
+                resultArea.setText(sb.toString());
             }
+        }.execute();
+    }
 
-            if (!found) {
-                return false;
-            }
+    private WhatIfAnalysis.Request parseRequest(String line) {
+        int colon = line.indexOf(':');
+        String id = line.substring(0, colon).trim();
+        int process = Integer.parseInt(id.startsWith("P") || id.startsWith("p") ? id.substring(1) : id);
+        String[] parts = line.substring(colon + 1).split(",");
+        int[] amounts = new int[numResources];
+        for (int j = 0; j < numResources; j++) {
+            amounts[j] = Integer.parseInt(parts[j].trim());
+        }
+        return new WhatIfAnalysis.Request(process, amounts);
+    }
+
+    // Your exact safety check logic
+    private boolean isSafe(int processes[], int avail[], int maxm[][], int allot[][], int P, int R) {
+        int[] safeSeq = safeSequence(processes, avail, maxm, allot, P, R);
+        if (safeSeq == null) {
+            return false;
         }
 
         // Display safe sequence
@@ -282,4 +337,10 @@ public class BankersAlgorithm extends JFrame {
 
         return true;
     }
-}
\ No newline at end of file
+
+    // Safe sequence for the state, or null if it is unsafe. Needs no window, so it can run headless.
+    // Callers that check repeatedly should keep a BankersState and a SafetyCheck instead.
+    static int[] safeSequence(int processes[], int avail[], int maxm[][], int allot[][], int P, int R) {
+        return new SafetyCheck(P, R).safeSequence(BankersState.from(maxm, allot, avail, P, R));
+    }
+}
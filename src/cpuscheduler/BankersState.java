@@ -0,0 +1,43 @@
+package cpuscheduler;
+
+// Banker's algorithm state in flat row-major arrays: entry [p * resources + j] is process p's
+// value for resource j. need is kept up to date with max and allocation instead of being
+// recomputed for every safety check.
+public class BankersState {
+    public final int processes, resources;
+    public final int[] max, allocation, need;
+    public final int[] available;
+
+    public BankersState(int processes, int resources) {
+        this.processes = processes;
+        this.resources = resources;
+        max = new int[processes * resources];
+        allocation = new int[processes * resources];
+        need = new int[processes * resources];
+        available = new int[resources];
+    }
+
+    public static BankersState from(int[][] maxm, int[][] allot, int[] avail, int P, int R) {
+        BankersState s = new BankersState(P, R);
+        for (int p = 0; p < P; p++) {
+            for (int j = 0; j < R; j++) {
+                s.max[p * R + j] = maxm[p][j];
+                s.allocation[p * R + j] = allot[p][j];
+                s.need[p * R + j] = maxm[p][j] - allot[p][j];
+            }
+        }
+        System.arraycopy(avail, 0, s.available, 0, R);
+        return s;
+    }
+
+    public void set(int p, int j, int maxValue, int allocated) {
+        int i = p * resources + j;
+        max[i] = maxValue;
+        allocation[i] = allocated;
+        need[i] = maxValue - allocated;
+    }
+
+    public int need(int p, int j) {
+        return need[p * resources + j];
+    }
+}
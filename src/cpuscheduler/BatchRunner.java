@@ -0,0 +1,325 @@
+package cpuscheduler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// Headless entry point: runs schedulers over workload files and writes metrics as CSV or JSON.
+//
+//   java -cp out cpuscheduler.BatchRunner [--algorithms all|FCFS,SJF,RR,...] [--quantum N]
+//        [--cpus N] [--format csv|json] [--out DIR] [--parallel] [--sweep A..B[:STEP]|q,q,...] workload...
+//
+// With --out, DIR/processes.<format> gets one row per process and DIR/summary.<format> one row
+// per workload and algorithm. Without it only the summary is printed to stdout.
+// --parallel runs the algorithms of a workload concurrently (see SchedulerComparison).
+// --cpus sets the CPU count for the SMP algorithm, which "all" does not include.
+// --sweep runs only Round Robin, once per quantum and in parallel (see QuantumSweep), and writes
+// one row per workload and quantum to stdout or DIR/sweep.<format>.
+public class BatchRunner {
+    private static final String[] PROCESS_COLUMNS = {
+            "workload", "algorithm", "pid", "arrival", "burst", "priority",
+            "start", "completion", "waiting", "turnaround", "response"
+    };
+    private static final String[] SUMMARY_COLUMNS = {
+            "workload", "algorithm", "processes", "avg_waiting", "avg_turnaround", "avg_response",
+            "max_waiting", "max_turnaround", "max_response", "makespan", "throughput",
+            "cpu_utilization", "context_switches", "runtime_ms",
+            "min_waiting", "std_waiting", "p50_waiting", "p90_waiting", "p99_waiting", "p999_waiting",
+            "min_turnaround", "std_turnaround", "p50_turnaround", "p90_turnaround", "p99_turnaround", "p999_turnaround",
+            "min_response", "std_response", "p50_response", "p90_response", "p99_response", "p999_response"
+    };
+    private static final String[] SWEEP_COLUMNS = {
+            "workload", "quantum", "avg_waiting", "p99_waiting", "max_waiting",
+            "avg_response", "p99_response", "max_response", "slices", "context_switches", "runtime_ms"
+    };
+
+    private List<String> algorithms = Arrays.asList(Schedulers.NAMES);
+    private int quantum = 2;
+    private int cpus = SMPScheduler.DEFAULT_CPUS;
+    private String format = "csv";
+    private Path outDir;
+    private boolean parallel;
+    private int[] sweepQuanta;
+    private final List<Path> workloads = new ArrayList<>();
+
+    public static void main(String[] args) {
+        BatchRunner runner = new BatchRunner();
+        try {
+            runner.parseArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            usage();
+            System.exit(2);
+        }
+        try {
+            runner.run();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void usage() {
+        System.err.println("Usage: BatchRunner [--algorithms all|name,name,...] [--quantum N] [--cpus N]"
+                + " [--format csv|json] [--out DIR] [--parallel] [--sweep A..B[:STEP]|q,q,...] workload...");
+        System.err.println("Algorithms: " + String.join(", ", Schedulers.NAMES) + ", " + Schedulers.SMP);
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--algorithms":
+                    String list = value(args, ++i, arg);
+                    if (!list.equalsIgnoreCase("all")) {
+                        algorithms = new ArrayList<>();
+                        for (String name : list.split(",")) {
+                            algorithms.add(Schedulers.canonicalName(name.trim()));
+                        }
+                    }
+                    break;
+                case "--quantum":
+                    try {
+                        quantum = Integer.parseInt(value(args, ++i, arg));
+                    } catch (NumberFormatException e) {
+                        quantum = 0;
+                    }
+                    if (quantum <= 0) {
+                        throw new IllegalArgumentException("--quantum must be a positive integer");
+                    }
+                    break;
+                case "--cpus":
+                    try {
+                        cpus = Integer.parseInt(value(args, ++i, arg));
+                    } catch (NumberFormatException e) {
+                        cpus = 0;
+                    }
+                    if (cpus <= 0) {
+                        throw new IllegalArgumentException("--cpus must be a positive integer");
+                    }
+                    break;
+                case "--format":
+                    format = value(args, ++i, arg).toLowerCase(Locale.ROOT);
+                    if (!format.equals("csv") && !format.equals("json")) {
+                        throw new IllegalArgumentException("--format must be csv or json");
+                    }
+                    break;
+                case "--out":
+                    outDir = Paths.get(value(args, ++i, arg));
+                    break;
+                case "--parallel":
+                    parallel = true;
+                    break;
+                case "--sweep":
+                    sweepQuanta = QuantumSweep.parse(value(args, ++i, arg));
+                    break;
+                default:
+                    if (arg.startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                    workloads.add(Paths.get(arg));
+            }
+        }
+        if (workloads.isEmpty()) {
+            throw new IllegalArgumentException("No workload files given");
+        }
+    }
+
+    private static String value(String[] args, int i, String option) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException(option + " needs a value");
+        }
+        return args[i];
+    }
+
+    private void run() throws IOException {
+        if (sweepQuanta != null) {
+            runSweep();
+            return;
+        }
+        Writer summaryOut;
+        Writer processOut = null;
+        if (outDir != null) {
+            Files.createDirectories(outDir);
+            summaryOut = Files.newBufferedWriter(outDir.resolve("summary." + format), StandardCharsets.UTF_8);
+            processOut = Files.newBufferedWriter(outDir.resolve("processes." + format), StandardCharsets.UTF_8);
+        } else {
+            summaryOut = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        }
+
+        RowWriter summary = newRowWriter(summaryOut, SUMMARY_COLUMNS);
+        RowWriter perProcess = processOut == null ? null : newRowWriter(processOut, PROCESS_COLUMNS);
+        try {
+            for (Path workload : workloads) {
+                ProcessTable table = WorkloadReader.read(workload);
+                String name = workload.getFileName().toString();
+                if (parallel) {
+                    for (SchedulerComparison.Result result : SchedulerComparison.compare(table, algorithms, quantum, cpus)) {
+                        write(name, result, summary, perProcess);
+                    }
+                } else {
+                    for (String algorithm : algorithms) {
+                        table.reset();
+                        write(name, SchedulerComparison.run(table, algorithm, quantum, cpus), summary, perProcess);
+                    }
+                }
+            }
+        } finally {
+            summary.close();
+            if (perProcess != null) {
+                perProcess.close();
+            }
+        }
+    }
+
+    private void runSweep() throws IOException {
+        Writer out;
+        if (outDir != null) {
+            Files.createDirectories(outDir);
+            out = Files.newBufferedWriter(outDir.resolve("sweep." + format), StandardCharsets.UTF_8);
+        } else {
+            out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        }
+        RowWriter sweep = newRowWriter(out, SWEEP_COLUMNS);
+        try {
+            for (Path workload : workloads) {
+                ProcessTable table = WorkloadReader.read(workload);
+                String name = workload.getFileName().toString();
+                for (QuantumSweep.Point p : QuantumSweep.sweep(table, sweepQuanta)) {
+                    sweep.row(name, p.quantum, p.avgWaiting, p.p99Waiting, p.maxWaiting,
+                            p.avgResponse, p.p99Response, p.maxResponse, p.slices, p.contextSwitches, p.runtimeMs);
+                }
+            }
+        } finally {
+            sweep.close();
+        }
+    }
+
+    private void write(String workload, SchedulerComparison.Result result,
+                       RowWriter summary, RowWriter perProcess) throws IOException {
+        ScheduleMetrics m = result.metrics;
+        LatencyHistogram w = m.waiting, t = m.turnaround, r = m.response;
+        summary.row(workload, result.algorithm, m.processCount, m.avgWaiting, m.avgTurnaround, m.avgResponse,
+                m.maxWaiting, m.maxTurnaround, m.maxResponse, m.makespan, m.throughput,
+                m.cpuUtilization, m.contextSwitches, result.runtimeMs,
+                w.min(), w.stdDev(), w.percentile(0.5), w.percentile(0.9), w.percentile(0.99), w.percentile(0.999),
+                t.min(), t.stdDev(), t.percentile(0.5), t.percentile(0.9), t.percentile(0.99), t.percentile(0.999),
+                r.min(), r.stdDev(), r.percentile(0.5), r.percentile(0.9), r.percentile(0.99), r.percentile(0.999));
+
+        if (perProcess != null) {
+            ProcessTable table = result.table;
+            for (int p = 0; p < table.size(); p++) {
+                perProcess.row(workload, result.algorithm, table.pid(p), table.arrivalTime[p], table.burstTime[p],
+                        table.priority[p], table.startTime[p], table.completionTime[p], table.waitingTime[p],
+                        table.turnaroundTime[p], table.responseTime[p]);
+            }
+        }
+    }
+
+    private RowWriter newRowWriter(Writer out, String[] columns) throws IOException {
+        return format.equals("json") ? new JsonRowWriter(out, columns) : new CsvRowWriter(out, columns);
+    }
+
+    // ---------- Output formats ----------
+    private abstract static class RowWriter {
+        final Writer out;
+        final String[] columns;
+
+        RowWriter(Writer out, String[] columns) {
+            this.out = out;
+            this.columns = columns;
+        }
+
+        abstract void row(Object... values) throws IOException;
+
+        void close() throws IOException {
+            out.close();
+        }
+
+        static String number(Object value) {
+            if (value instanceof Double) {
+                return String.format(Locale.ROOT, "%.4f", (Double) value);
+            }
+            return value.toString();
+        }
+    }
+
+    private static class CsvRowWriter extends RowWriter {
+        CsvRowWriter(Writer out, String[] columns) throws IOException {
+            super(out, columns);
+            out.write(String.join(",", columns));
+            out.write('\n');
+        }
+
+        @Override
+        void row(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(values[i] instanceof String ? quote((String) values[i]) : number(values[i]));
+            }
+            out.write('\n');
+        }
+
+        private static String quote(String s) {
+            if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0) {
+                return s;
+            }
+            return '"' + s.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    // Writes a JSON array of objects, one per row
+    private static class JsonRowWriter extends RowWriter {
+        private boolean first = true;
+
+        JsonRowWriter(Writer out, String[] columns) throws IOException {
+            super(out, columns);
+            out.write("[\n");
+        }
+
+        @Override
+        void row(Object... values) throws IOException {
+            out.write(first ? "  {" : ",\n  {");
+            first = false;
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write(", ");
+                }
+                out.write('"' + columns[i] + "\": ");
+                out.write(values[i] instanceof String ? quote((String) values[i]) : number(values[i]));
+            }
+            out.write('}');
+        }
+
+        @Override
+        void close() throws IOException {
+            out.write(first ? "]\n" : "\n]\n");
+            super.close();
+        }
+
+        private static String quote(String s) {
+            StringBuilder sb = new StringBuilder("\"");
+            for (char c : s.toCharArray()) {
+                if (c == '"' || c == '\\') {
+                    sb.append('\\').append(c);
+                } else if (c < 0x20) {
+                    sb.append(String.format("\\u%04x", (int) c));
+                } else {
+                    sb.append(c);
+                }
+            }
+            return sb.append('"').toString();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package cpuscheduler;
+
+import java.util.List;
+
+// Proportional-share scheduler in the style of Linux's CFS. Priorities are non-negative
+// everywhere else, so priority 0..39 stands for nice -20..19 (nice = priority - 20, clamped;
+// lower is more important) and maps to the kernel's load weight. Priority 20 is nice 0.
+// - Runnable processes sit in a heap keyed on virtual runtime, the CPU time they received
+//   divided by their weight; the one with the least runs next, ties to the earlier arrival.
+// - Every runnable process should get a turn within targetLatency, stretched to
+//   minGranularity per process when there are too many. The running process's slice is its
+//   weight's share of that period, but never less than minGranularity.
+// - A new arrival starts at the smallest virtual runtime in the system, so it neither waits
+//   behind everyone nor catches up on time it was not there for. Arrivals shrink the running
+//   slice, since the period is now shared by more processes.
+// The scheduler quantum is not used. The clock jumps between arrivals, slice ends and
+// completions, and each decision is a heap operation.
+public class CFSScheduler implements Scheduler {
+    public static final int DEFAULT_TARGET_LATENCY = 16;
+    public static final int DEFAULT_MIN_GRANULARITY = 2;
+
+    // Weight for nice -20..19, as in the kernel's sched_prio_to_weight; nice 0 is 1024
+    private static final int[] NICE_TO_WEIGHT = {
+            88761, 71755, 56483, 46273, 36291,
+            29154, 23254, 18705, 14949, 11916,
+            9548, 7620, 6100, 4904, 3906,
+            3121, 2501, 1991, 1586, 1277,
+            1024, 820, 655, 526, 423,
+            335, 272, 215, 172, 137,
+            110, 87, 70, 56, 45,
+            36, 29, 23, 18, 15
+    };
+
+    // Virtual runtime is kept in units of 1/65536 of a time unit at nice 0
+    private static final long VRUNTIME_SCALE = 1024L << 16;
+
+    private final int targetLatency;
+    private final int minGranularity;
+
+    public CFSScheduler() {
+        this(DEFAULT_TARGET_LATENCY, DEFAULT_MIN_GRANULARITY);
+    }
+
+    public CFSScheduler(int targetLatency, int minGranularity) {
+        if (minGranularity <= 0 || targetLatency < minGranularity) {
+            throw new IllegalArgumentException("Need 0 < minimum granularity <= target latency");
+        }
+        this.targetLatency = targetLatency;
+        this.minGranularity = minGranularity;
+    }
+
+    // Load weight for a priority in 0..39, i.e. nice priority - 20
+    static int weight(int priority) {
+        return NICE_TO_WEIGHT[Math.max(0, Math.min(NICE_TO_WEIGHT.length - 1, priority))];
+    }
+
+    @Override
+    public void schedule(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
+        int[] order = t.arrivalOrder();
+        int n = order.length;
+
+        // Runnable processes keyed on virtual runtime. Ids are positions in arrival order.
+        IndexedMinHeap readyQueue = new IndexedMinHeap(n);
+        long[] vruntime = new long[n];
+        long minVruntime = 0;
+        long totalWeight = 0;   // of everything runnable, the running process included
+        int runnable = 0;
+
+        int currentTime = 0;
+        int index = 0;
+        int current = -1;
+        int sliceStart = -1;
+
+        while (index < n || !readyQueue.isEmpty() || current != -1) {
+            if (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                // Never let the reference point move backwards
+                long smallest = current != -1 ? vruntime[current] : Long.MAX_VALUE;
+                if (!readyQueue.isEmpty()) {
+                    smallest = Math.min(smallest, readyQueue.peekKey());
+                }
+                if (smallest != Long.MAX_VALUE) {
+                    minVruntime = Math.max(minVruntime, smallest);
+                }
+                while (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                    vruntime[index] = minVruntime;
+                    readyQueue.insert(index, minVruntime);
+                    totalWeight += weight(t.priority[order[index]]);
+                    runnable++;
+                    index++;
+                }
+            }
+
+            if (current == -1) {
+                if (readyQueue.isEmpty()) {
+                    currentTime = t.arrivalTime[order[index]];
+                    continue;
+                }
+                current = readyQueue.poll();
+                if (t.startTime[order[current]] == -1) {
+                    t.startTime[order[current]] = currentTime;
+                }
+                sliceStart = currentTime;
+            }
+
+            // The slice follows the current number of runnable processes, so it is
+            // recomputed at every event; stop at its end, completion or the next arrival
+            int p = order[current];
+            int w = weight(t.priority[p]);
+            long period = Math.max(targetLatency, (long) runnable * minGranularity);
+            long slice = Math.max(minGranularity, period * w / totalWeight);
+            long end = Math.max(currentTime, Math.min(sliceStart + slice, (long) currentTime + t.remainingTime[p]));
+            if (index < n) {
+                end = Math.min(end, t.arrivalTime[order[index]]);
+            }
+            int ran = (int) (end - currentTime);
+            t.remainingTime[p] -= ran;
+            vruntime[current] += ran * VRUNTIME_SCALE / w;
+            currentTime = (int) end;
+
+            if (t.remainingTime[p] == 0) {
+                ganttEntries.add(new GanttEntry(t.pid(p), sliceStart, currentTime));
+                t.completionTime[p] = currentTime;
+                t.turnaroundTime[p] = t.completionTime[p] - t.arrivalTime[p];
+                t.waitingTime[p] = t.turnaroundTime[p] - t.burstTime[p];
+                t.responseTime[p] = t.startTime[p] - t.arrivalTime[p];
+                totalWeight -= w;
+                runnable--;
+                current = -1;
+            } else if (currentTime >= sliceStart + slice) {
+                ganttEntries.add(new GanttEntry(t.pid(p), sliceStart, currentTime));
+                readyQueue.insert(current, vruntime[current]);
+                current = -1;
+            }
+        }
+    }
+}
@@ -9,16 +9,20 @@ import java.util.*;
 
 public class CPUSchedulingSimulator extends JFrame {
     private JTable inputTable, outputTable;
-    private DefaultTableModel inputTableModel, outputTableModel;
-    private JTextField pidField, arrivalField, burstField, quantumField, priorityField;
+    private ProcessInputTableModel inputTableModel;
+    private ScheduleResultTableModel outputTableModel;
+    private JTextField pidField, arrivalField, burstField, quantumField, priorityField, cpuField;
     private JComboBox<String> algorithmComboBox;
-    private JPanel ganttChartPanel;
+    private GanttTimeline ganttTimeline;
     private ArrayList<Process> processes;
     private JPanel dynamicInputPanel;
     private java.util.List<GanttEntry> ganttEntries;
     private JButton rmsButton;
     private JButton edfButton;
     private JButton bankersButton;
+    private JButton compareButton;
+    private JButton sweepButton;
+    private JButton loadButton;
 
     // Modern Color Scheme
     private final Color PRIMARY_COLOR = new Color(41, 128, 185);
@@ -121,10 +125,13 @@ public class CPUSchedulingSimulator extends JFrame {
 
         JButton addBtn = createPrimaryButton("Add Process");
         JButton clearAllBtn = createSecondaryButton("Clear All");
+        loadButton = createSecondaryButton("Load Workload");
 
         addBtn.addActionListener(e -> addProcess());
         clearAllBtn.addActionListener(e -> clearAllProcesses());
+        loadButton.addActionListener(e -> loadWorkload());
 
+        buttonPanel.add(loadButton);
         buttonPanel.add(clearAllBtn);
         buttonPanel.add(addBtn);
 
@@ -138,13 +145,7 @@ public class CPUSchedulingSimulator extends JFrame {
         JPanel card = createCard("Input Processes", 200);
         card.setLayout(new BorderLayout());
 
-        String[] columns = {"Process ID", "Arrival Time", "Burst Time", "Priority", "Actions"};
-        inputTableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 4;
-            }
-        };
+        inputTableModel = new ProcessInputTableModel(processes);
 
         inputTable = new JTable(inputTableModel);
         styleTable(inputTable);
@@ -169,8 +170,8 @@ public class CPUSchedulingSimulator extends JFrame {
         algoPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 5, 10));
 
         JLabel algoLabel = createSectionLabel("Select Algorithm:");
-        String[] algorithms = {"FCFS", "SJF", "SRTF", "Round Robin", "Priority Preemptive", "Priority Non-Preemptive"};
-        algorithmComboBox = new JComboBox<>(algorithms);
+        algorithmComboBox = new JComboBox<>(Schedulers.NAMES);
+        algorithmComboBox.addItem(Schedulers.SMP);
         styleComboBox(algorithmComboBox);
 
         algoPanel.add(algoLabel, BorderLayout.WEST);
@@ -188,6 +189,12 @@ public class CPUSchedulingSimulator extends JFrame {
         JButton simulateBtn = createAccentButton("Run Simulation");
         simulateBtn.addActionListener(e -> runSimulation());
 
+        compareButton = createAccentButton("Compare All");
+        compareButton.addActionListener(e -> runComparison());
+
+        sweepButton = createAccentButton("Quantum Sweep");
+        sweepButton.addActionListener(e -> runQuantumSweep());
+
         // Add RMS button
         rmsButton = createPrimaryButton("RMS Scheduler");
         rmsButton.addActionListener(e -> openRMScheduler());
@@ -203,6 +210,8 @@ public class CPUSchedulingSimulator extends JFrame {
         controlPanel.add(rmsButton);
         controlPanel.add(edfButton);
         controlPanel.add(bankersButton);  // Add this line
+        controlPanel.add(compareButton);
+        controlPanel.add(sweepButton);
         controlPanel.add(simulateBtn);
 
         card.add(algoPanel, BorderLayout.NORTH);
@@ -236,13 +245,7 @@ public class CPUSchedulingSimulator extends JFrame {
         titleLabel.setBorder(BorderFactory.createEmptyBorder(5, 0, 5, 0));
         card.add(titleLabel, BorderLayout.NORTH);
 
-        String[] columns = {"Process", "Arrival", "Burst", "Start", "Completion", "Waiting", "Turnaround", "Response"};
-        outputTableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        outputTableModel = new ScheduleResultTableModel();
 
         outputTable = new JTable(outputTableModel);
         styleTable(outputTable);
@@ -261,13 +264,29 @@ public class CPUSchedulingSimulator extends JFrame {
         titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 14));
         titleLabel.setForeground(TEXT_COLOR);
         titleLabel.setBorder(BorderFactory.createEmptyBorder(5, 0, 5, 0));
-        card.add(titleLabel, BorderLayout.NORTH);
-
-        ganttChartPanel = new JPanel();
-        ganttChartPanel.setBackground(Color.WHITE);
-        ganttChartPanel.setLayout(new FlowLayout(FlowLayout.LEFT, 2, 2));
 
-        JScrollPane scrollPane = new JScrollPane(ganttChartPanel);
+        // Zoom controls; Ctrl + mouse wheel over the chart zooms as well
+        JPanel zoomPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT, 4, 2));
+        zoomPanel.setBackground(CARD_COLOR);
+        JButton zoomOutBtn = createSecondaryButton("-");
+        JButton zoomInBtn = createSecondaryButton("+");
+        JButton fitBtn = createSecondaryButton("Fit");
+        zoomPanel.add(zoomOutBtn);
+        zoomPanel.add(zoomInBtn);
+        zoomPanel.add(fitBtn);
+
+        JPanel header = new JPanel(new BorderLayout());
+        header.setBackground(CARD_COLOR);
+        header.add(titleLabel, BorderLayout.CENTER);
+        header.add(zoomPanel, BorderLayout.EAST);
+        card.add(header, BorderLayout.NORTH);
+
+        ganttTimeline = new GanttTimeline();
+        zoomOutBtn.addActionListener(e -> ganttTimeline.zoomOut());
+        zoomInBtn.addActionListener(e -> ganttTimeline.zoomIn());
+        fitBtn.addActionListener(e -> ganttTimeline.zoomToFit());
+
+        JScrollPane scrollPane = new JScrollPane(ganttTimeline);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
         scrollPane.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_ALWAYS);
 
@@ -379,7 +398,7 @@ public class CPUSchedulingSimulator extends JFrame {
         String algorithm = (String) algorithmComboBox.getSelectedItem();
         dynamicInputPanel.removeAll();
 
-        if ("Round Robin".equals(algorithm)) {
+        if (Schedulers.usesQuantum(algorithm)) {
             JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
             panel.setBackground(CARD_COLOR);
             panel.add(createSectionLabel("Quantum:"));
@@ -390,6 +409,17 @@ public class CPUSchedulingSimulator extends JFrame {
             dynamicInputPanel.add(panel);
         }
 
+        if (Schedulers.SMP.equals(algorithm)) {
+            JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 0));
+            panel.setBackground(CARD_COLOR);
+            panel.add(createSectionLabel("CPUs:"));
+            cpuField = createStyledTextField();
+            cpuField.setColumns(3);
+            cpuField.setText(String.valueOf(SMPScheduler.DEFAULT_CPUS));
+            panel.add(cpuField);
+            dynamicInputPanel.add(panel);
+        }
+
         dynamicInputPanel.revalidate();
         dynamicInputPanel.repaint();
     }
@@ -411,15 +441,12 @@ public class CPUSchedulingSimulator extends JFrame {
                 return;
             }
 
-            for (Process p : processes) {
-                if (p.pid.equals(pid)) {
-                    showError("Process ID must be unique!");
-                    return;
-                }
+            if (inputTableModel.containsPid(pid)) {
+                showError("Process ID must be unique!");
+                return;
             }
 
-            processes.add(new Process(pid, arrival, burst, priority));
-            updateInputTable();
+            inputTableModel.add(new Process(pid, arrival, burst, priority));
             clearInputFields();
 
         } catch (NumberFormatException ex) {
@@ -435,30 +462,59 @@ public class CPUSchedulingSimulator extends JFrame {
     }
 
     private void clearAllProcesses() {
-        processes.clear();
-        updateInputTable();
-        clearOutputTable();
+        inputTableModel.clear();
+        outputTableModel.clear();
         ganttEntries.clear();
-        ganttChartPanel.removeAll();
-        ganttChartPanel.repaint();
+        ganttTimeline.clear();
     }
 
-    private void updateInputTable() {
-        inputTableModel.setRowCount(0);
-        for (Process p : processes) {
-            inputTableModel.addRow(new Object[]{p.pid, p.arrivalTime, p.burstTime, p.priority, "Delete"});
+    private void deleteProcess(int row) {
+        if (row >= 0 && row < processes.size()) {
+            inputTableModel.remove(row);
         }
     }
 
-    private void clearOutputTable() {
-        outputTableModel.setRowCount(0);
-    }
-
-    private void deleteProcess(int row) {
-        if (row >= 0 && row < processes.size()) {
-            processes.remove(row);
-            updateInputTable();
+    // Appends the processes of a workload file (see WorkloadReader), parsed off the EDT
+    private void loadWorkload() {
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
         }
+        java.nio.file.Path file = chooser.getSelectedFile().toPath();
+        loadButton.setEnabled(false);
+
+        new SwingWorker<java.util.List<Process>, Void>() {
+            @Override
+            protected java.util.List<Process> doInBackground() throws Exception {
+                java.util.List<Process> loaded = new ArrayList<>();
+                Set<String> seen = new HashSet<>();
+                WorkloadReader.forEachRow(file, (pid, arrival, burst, priority) -> {
+                    if (!seen.add(pid)) {
+                        throw new IllegalArgumentException(file + ": duplicate process ID " + pid);
+                    }
+                    loaded.add(new Process(pid, arrival, burst, priority));
+                });
+                return loaded;
+            }
+
+            @Override
+            protected void done() {
+                loadButton.setEnabled(true);
+                try {
+                    java.util.List<Process> loaded = get();
+                    for (Process p : loaded) {
+                        if (inputTableModel.containsPid(p.pid)) {
+                            showError("Process ID " + p.pid + " is already in the table!");
+                            return;
+                        }
+                    }
+                    inputTableModel.addAll(loaded);
+                } catch (Exception ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    showError("Could not load workload: " + cause.getMessage());
+                }
+            }
+        }.execute();
     }
 
     private void runSimulation() {
@@ -468,129 +524,204 @@ public class CPUSchedulingSimulator extends JFrame {
         }
 
         String algorithm = (String) algorithmComboBox.getSelectedItem();
-
-        // Reset process states
-        for (Process p : processes) {
-            p.reset();
-        }
         ganttEntries.clear();
 
-        Scheduler scheduler = null;
-        int quantum = 2; // default
-
-        switch (algorithm) {
-            case "FCFS":
-                scheduler = new FCFScheduler();
-                break;
-            case "SJF":
-                scheduler = new SJFScheduler();
-                break;
-            case "SRTF":
-                scheduler = new SRTFScheduler();
-                break;
-            case "Round Robin":
-                try {
-                    quantum = Integer.parseInt(quantumField.getText().trim());
-                    if (quantum <= 0) throw new NumberFormatException();
-                } catch (NumberFormatException e) {
-                    showError("Please enter a valid quantum value!");
-                    return;
-                }
-                scheduler = new RoundRobinScheduler();
-                break;
-            case "Priority Preemptive":
-                scheduler = new PriorityPreemptiveScheduler();
-                break;
-            case "Priority Non-Preemptive":
-                scheduler = new PriorityNonPreemptiveScheduler();
-                break;
+        int quantum = readQuantum();
+        if (quantum <= 0) {
+            return;
         }
 
-        if (scheduler != null) {
-            scheduler.schedule(processes, ganttEntries, quantum);
+        int cpus = 1;
+        if (Schedulers.SMP.equals(algorithm)) {
+            try {
+                cpus = Integer.parseInt(cpuField.getText().trim());
+                if (cpus <= 0) throw new NumberFormatException();
+            } catch (NumberFormatException e) {
+                showError("Please enter a valid CPU count!");
+                return;
+            }
         }
 
-        updateOutputTable();
+        // Results stay in the table's columns; the output table reads them from there
+        ProcessTable result = ProcessTable.from(processes);
+        result.reset();
+        Scheduler scheduler = Schedulers.create(algorithm, cpus);
+        scheduler.schedule(result, ganttEntries, quantum);
+
+        outputTableModel.setResult(result);
         showGanttChart();
     }
 
-    private void updateOutputTable() {
-        clearOutputTable();
-
-        double totalWaiting = 0;
-        double totalTurnaround = 0;
-        double totalResponse = 0;
-
-        for (Process p : processes) {
-            outputTableModel.addRow(new Object[]{
-                    p.pid, p.arrivalTime, p.burstTime, p.startTime,
-                    p.completionTime, p.waitingTime, p.turnaroundTime, p.responseTime
-            });
-
-            totalWaiting += p.waitingTime;
-            totalTurnaround += p.turnaroundTime;
-            totalResponse += p.responseTime;
+    // Quantum from the field when the selected algorithm shows it, 2 otherwise; -1 if invalid
+    private int readQuantum() {
+        if (!Schedulers.usesQuantum((String) algorithmComboBox.getSelectedItem())) {
+            return 2;
+        }
+        try {
+            int quantum = Integer.parseInt(quantumField.getText().trim());
+            if (quantum <= 0) throw new NumberFormatException();
+            return quantum;
+        } catch (NumberFormatException e) {
+            showError("Please enter a valid quantum value!");
+            return -1;
         }
-
-        int count = processes.size();
-        outputTableModel.addRow(new Object[]{
-                "Average", "", "", "", "",
-                String.format("%.2f", totalWaiting / count),
-                String.format("%.2f", totalTurnaround / count),
-                String.format("%.2f", totalResponse / count)
-        });
     }
 
-    private void showGanttChart() {
-        ganttChartPanel.removeAll();
+    // Quantum for a comparison: the field's when it is shown, otherwise asked for, since the
+    // comparison always includes the quantum-based algorithms; -1 if invalid or cancelled
+    private int readComparisonQuantum() {
+        if (Schedulers.usesQuantum((String) algorithmComboBox.getSelectedItem())) {
+            return readQuantum();
+        }
+        String input = JOptionPane.showInputDialog(this,
+                "Quantum for Round Robin, MLFQ, Lottery and Stride:", "2");
+        if (input == null) {
+            return -1;
+        }
+        try {
+            int quantum = Integer.parseInt(input.trim());
+            if (quantum <= 0) throw new NumberFormatException();
+            return quantum;
+        } catch (NumberFormatException e) {
+            showError("Please enter a valid quantum value!");
+            return -1;
+        }
+    }
 
-        if (ganttEntries.isEmpty()) {
-            ganttChartPanel.repaint();
+    // Runs every algorithm in parallel on its own copy of the workload, off the EDT
+    private void runComparison() {
+        if (processes.isEmpty()) {
+            showError("Please add at least one process!");
+            return;
+        }
+        int quantum = readComparisonQuantum();
+        if (quantum <= 0) {
             return;
         }
 
-        ganttEntries.sort(Comparator.comparingInt(e -> e.start));
+        ProcessTable workload = ProcessTable.from(processes);
+        workload.reset();
+        compareButton.setEnabled(false);
 
-        int currentTime = 0;
-        for (GanttEntry e : ganttEntries) {
-            if (e.start > currentTime) {
-                addGanttBlock("IDLE", currentTime, e.start, Color.LIGHT_GRAY);
+        new SwingWorker<java.util.List<SchedulerComparison.Result>, Void>() {
+            @Override
+            protected java.util.List<SchedulerComparison.Result> doInBackground() {
+                return SchedulerComparison.compare(workload, Arrays.asList(Schedulers.NAMES), quantum);
             }
-            Color color = getProcessColor(e.pid);
-            addGanttBlock(e.pid, e.start, e.end, color);
-            currentTime = e.end;
+
+            @Override
+            protected void done() {
+                compareButton.setEnabled(true);
+                try {
+                    showComparison(get(), quantum);
+                } catch (Exception ex) {
+                    showError("Comparison failed: " + ex.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    private void showComparison(java.util.List<SchedulerComparison.Result> results, int quantum) {
+        String[] columns = {"Algorithm", "Avg Waiting", "P50 Waiting", "P99 Waiting", "Max Waiting",
+                "Avg Turnaround", "P99 Turnaround", "Avg Response", "P99 Response",
+                "Makespan", "CPU Util", "Context Switches", "Time (ms)"};
+        DefaultTableModel model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        for (SchedulerComparison.Result r : results) {
+            ScheduleMetrics m = r.metrics;
+            model.addRow(new Object[]{
+                    r.algorithm,
+                    String.format("%.2f", m.avgWaiting),
+                    m.waiting.percentile(0.5), m.waiting.percentile(0.99), m.maxWaiting,
+                    String.format("%.2f", m.avgTurnaround), m.turnaround.percentile(0.99),
+                    String.format("%.2f", m.avgResponse), m.response.percentile(0.99),
+                    m.makespan,
+                    String.format("%.1f%%", m.cpuUtilization * 100),
+                    m.contextSwitches,
+                    String.format("%.2f", r.runtimeMs)
+            });
         }
 
-        ganttChartPanel.revalidate();
-        ganttChartPanel.repaint();
+        JTable table = new JTable(model);
+        styleTable(table);
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setPreferredSize(new Dimension(900, 200));
+        JOptionPane.showMessageDialog(this, scrollPane,
+                "Algorithm Comparison (quantum = " + quantum + ")", JOptionPane.PLAIN_MESSAGE);
     }
 
-    private void addGanttBlock(String pid, int start, int end, Color color) {
-        JPanel block = new JPanel(new BorderLayout());
-        int width = Math.max(40, (end - start) * 20);
-        block.setPreferredSize(new Dimension(width, 40));
-        block.setBackground(color);
-        block.setBorder(BorderFactory.createLineBorder(Color.DARK_GRAY));
+    // Runs Round Robin over a range of quanta in parallel, off the EDT
+    private void runQuantumSweep() {
+        if (processes.isEmpty()) {
+            showError("Please add at least one process!");
+            return;
+        }
+        String spec = JOptionPane.showInputDialog(this,
+                "Quanta to try (e.g. 1..20, 1..64:4 or 1,2,4,8):", "1..10");
+        if (spec == null) {
+            return;
+        }
+        int[] quanta;
+        try {
+            quanta = QuantumSweep.parse(spec.trim());
+        } catch (IllegalArgumentException e) {
+            showError(e.getMessage());
+            return;
+        }
+
+        ProcessTable workload = ProcessTable.from(processes);
+        workload.reset();
+        sweepButton.setEnabled(false);
 
-        JLabel label = new JLabel(pid, SwingConstants.CENTER);
-        label.setFont(new Font("Segoe UI", Font.BOLD, 10));
-        block.add(label, BorderLayout.CENTER);
+        new SwingWorker<java.util.List<QuantumSweep.Point>, Void>() {
+            @Override
+            protected java.util.List<QuantumSweep.Point> doInBackground() {
+                return QuantumSweep.sweep(workload, quanta);
+            }
 
-        JLabel timeLabel = new JLabel(start + "-" + end, SwingConstants.CENTER);
-        timeLabel.setFont(new Font("Segoe UI", Font.PLAIN, 8));
-        block.add(timeLabel, BorderLayout.SOUTH);
+            @Override
+            protected void done() {
+                sweepButton.setEnabled(true);
+                try {
+                    showQuantumSweep(get());
+                } catch (Exception ex) {
+                    showError("Quantum sweep failed: " + ex.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    private void showQuantumSweep(java.util.List<QuantumSweep.Point> points) {
+        String[] columns = {"Quantum", "Avg Waiting", "P99 Waiting", "Max Waiting",
+                "Avg Response", "P99 Response", "Max Response", "Context Switches"};
+        DefaultTableModel model = new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        for (QuantumSweep.Point p : points) {
+            model.addRow(new Object[]{
+                    p.quantum,
+                    String.format("%.2f", p.avgWaiting), p.p99Waiting, p.maxWaiting,
+                    String.format("%.2f", p.avgResponse), p.p99Response, p.maxResponse,
+                    p.contextSwitches
+            });
+        }
 
-        ganttChartPanel.add(block);
+        JTable table = new JTable(model);
+        styleTable(table);
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setPreferredSize(new Dimension(900, 300));
+        JOptionPane.showMessageDialog(this, scrollPane, "Round Robin Quantum Sweep", JOptionPane.PLAIN_MESSAGE);
     }
 
-    private Color getProcessColor(String pid) {
-        int hash = pid.hashCode();
-        Random random = new Random(hash);
-        return new Color(
-                random.nextInt(200) + 55,
-                random.nextInt(200) + 55,
-                random.nextInt(200) + 55
-        );
+    private void showGanttChart() {
+        ganttTimeline.setEntries(ganttEntries);
     }
 
     private void showError(String message) {
@@ -0,0 +1,17 @@
+package cpuscheduler;
+
+// Keeps only totals: slot count plus busy and idle time.
+public class CountingSlotSink implements SlotSink {
+    public long slots;
+    public long busyTime, idleTime;
+
+    @Override
+    public void slot(int taskId, long start, long end) {
+        slots++;
+        if (taskId == IDLE) {
+            idleTime += end - start;
+        } else {
+            busyTime += end - start;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package cpuscheduler;
+
+import java.util.Arrays;
+
+// Deadlock detection for resources with several instances each (the detection counterpart of
+// the Banker's safety check): given what every process holds and what it is currently blocked
+// requesting, find the processes that can never proceed. It is the safety check with the
+// outstanding requests in place of the remaining claims, so it runs on SafetyCheck and costs
+// about the same. A process that holds nothing cannot be part of a deadlock, whatever it waits
+// for, and is never reported.
+//
+// For single-instance resources, WaitForGraph finds the same cycles incrementally as waits are
+// added, without a full pass.
+public class DeadlockDetector {
+    private final int processes, resources;
+    private final SafetyCheck check;
+    private final int[] order;
+    private final boolean[] finished;
+
+    public DeadlockDetector(int processes, int resources) {
+        this.processes = processes;
+        this.resources = resources;
+        check = new SafetyCheck(processes, resources);
+        order = new int[processes];
+        finished = new boolean[processes];
+    }
+
+    // request and allocation are P x R row-major. Returns the deadlocked processes in
+    // ascending order; empty if there is no deadlock.
+    public int[] deadlocked(int[] request, int[] allocation, int[] available) {
+        int done = check.run(processes, resources, request, allocation, available, order);
+        if (done == processes) {
+            return new int[0];
+        }
+        Arrays.fill(finished, false);
+        for (int k = 0; k < done; k++) {
+            finished[order[k]] = true;
+        }
+        int count = 0;
+        for (int p = 0; p < processes; p++) {
+            if (!finished[p] && holdsAnything(allocation, p)) {
+                order[count++] = p;
+            }
+        }
+        return Arrays.copyOf(order, count);
+    }
+
+    public boolean isDeadlocked(int[] request, int[] allocation, int[] available) {
+        return deadlocked(request, allocation, available).length > 0;
+    }
+
+    private boolean holdsAnything(int[] allocation, int p) {
+        int base = p * resources;
+        for (int j = 0; j < resources; j++) {
+            if (allocation[base + j] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
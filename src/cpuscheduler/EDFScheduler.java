@@ -1,41 +1,40 @@
 package cpuscheduler;
 
 import javax.swing.*;
-import java.awt.*;
-import java.awt.geom.Rectangle2D;
 import java.util.*;
 import java.util.List;
 
 public class EDFScheduler extends JFrame {
+    // Utilizations within this of 1 are treated as full in demandTest
+    static final double FULL_UTILIZATION = 1e-9;
+    private static final int BUSY_PERIOD_STEPS = 10000;
 
     static class Task {
         int id, period, wcet;
+        int relativeDeadline; // D <= period; equal to the period unless given
         int remainingTime;
-        int nextRelease;
-        int deadline; // dynamic absolute deadline
+        long nextRelease;
+        long deadline; // dynamic absolute deadline
 
         Task(int id, int period, int wcet) {
+            this(id, period, wcet, period);
+        }
+
+        Task(int id, int period, int wcet, int relativeDeadline) {
+            if (relativeDeadline <= 0 || relativeDeadline > period) {
+                throw new IllegalArgumentException("Deadline must be between 1 and the period");
+            }
             this.id = id;
             this.period = period;
             this.wcet = wcet;
+            this.relativeDeadline = relativeDeadline;
             this.remainingTime = wcet;
             this.nextRelease = 0;
-            this.deadline = period;
+            this.deadline = relativeDeadline;
         }
     }
 
-    static class Slot {
-        String taskName;
-        int start, end;
-
-        Slot(String taskName, int start, int end) {
-            this.taskName = taskName;
-            this.start = start;
-            this.end = end;
-        }
-    }
-
-    private List<Slot> ganttSlots = new ArrayList<>();
+    private final RealTimeGanttPanel ganttPanel = new RealTimeGanttPanel("Earliest Deadline First Scheduling - Gantt Chart");
     private List<Task> tasks = new ArrayList<>();
 
     public EDFScheduler() {
@@ -43,13 +42,14 @@ public class EDFScheduler extends JFrame {
         setSize(1100, 450);
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         setLocationRelativeTo(null);
-        add(new JScrollPane(new GanttPanel()));
+        add(new JScrollPane(ganttPanel));
     }
 
     public void startEDF() {
         // Get input using dialog
         String input = JOptionPane.showInputDialog(this,
-                "Enter tasks in format: period1,wcet1;period2,wcet2;...\nExample: 5,2;10,3;15,4",
+                "Enter tasks in format: period1,wcet1[,deadline1];period2,wcet2[,deadline2];...\n"
+                        + "The deadline defaults to the period.\nExample: 5,2;10,3,8;15,4",
                 "EDF Input",
                 JOptionPane.PLAIN_MESSAGE);
 
@@ -62,20 +62,21 @@ public class EDFScheduler extends JFrame {
             runEDFSimulation();
             setVisible(true);
         } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "Invalid input format! Use: period,wcet;period,wcet;...", "Error", JOptionPane.ERROR_MESSAGE);
+            JOptionPane.showMessageDialog(this, "Invalid input format! Use: period,wcet[,deadline];period,wcet[,deadline];...", "Error", JOptionPane.ERROR_MESSAGE);
         }
     }
 
     private void parseTasks(String input) {
         tasks.clear();
-        ganttSlots.clear();
+        ganttPanel.start(0);
 
         String[] taskStrings = input.split(";");
         for (int i = 0; i < taskStrings.length; i++) {
             String[] parts = taskStrings[i].split(",");
             int period = Integer.parseInt(parts[0].trim());
             int wcet = Integer.parseInt(parts[1].trim());
-            tasks.add(new Task(i, period, wcet));
+            int deadline = parts.length > 2 ? Integer.parseInt(parts[2].trim()) : period;
+            tasks.add(new Task(i, period, wcet, deadline));
         }
     }
 
@@ -85,185 +86,236 @@ public class EDFScheduler extends JFrame {
             return;
         }
 
-        int hp = calculateHyperPeriod(tasks);
-        simulateEDF(tasks, hp);
-        repaint();
+        // Only the first MAX_HORIZON units are drawn when the hyperperiod is longer or overflows
+        long hp;
+        String hyperperiod;
+        try {
+            hp = calculateHyperPeriod(tasks);
+            hyperperiod = String.valueOf(hp);
+        } catch (ArithmeticException e) {
+            hp = Long.MAX_VALUE;
+            hyperperiod = "beyond " + Long.MAX_VALUE;
+        }
+        long horizon = Math.min(hp, RealTimeGanttPanel.MAX_HORIZON);
+        ganttPanel.start(tasks.size());
+        simulateEDF(tasks, horizon, ganttPanel);
 
         // Show success message
         JOptionPane.showMessageDialog(this,
-                "EDF Simulation Completed!\nHyperperiod: " + hp + "\nTotal Time Slots: " + ganttSlots.size(),
+                "EDF Simulation Completed!\nHyperperiod: " + hyperperiod
+                        + (horizon < hp ? "\nShowing: 0 to " + horizon : "")
+                        + "\nTotal Time Slots: " + ganttPanel.slotCount(),
                 "Success",
                 JOptionPane.INFORMATION_MESSAGE);
     }
 
     // ---------- Utility methods ----------
     private boolean isSchedulable(List<Task> tasks) {
+        return demandTest(tasks);
+    }
+
+    // Exact EDF test for deadlines up to the period, by Quick Processor-demand Analysis (Zhang &
+    // Burns). The demand h(t) is the work of all jobs with release and deadline in [0, t]; the
+    // set is schedulable iff h(t) <= t at every absolute deadline t below a bound L. Rather than
+    // visiting every deadline, QPA walks down from the last one before L and jumps straight to
+    // h(t) whenever h(t) < t, since no deadline in between can fail. Each step costs O(n).
+    // L is the least of the synchronous busy period (when it converges quickly), max(D_max, sum((T - D) * U_i) / (1 - U))
+    // and the hyperperiod plus D_max. The second grows without bound as U approaches 1, so from
+    // 1 - FULL_UTILIZATION on only the others are used. Checking up to the hyperperiod also
+    // settles sets whose rounded U lies just either side of 1. A set that close to full
+    // utilization whose hyperperiod does not fit in a long is accepted only when every deadline
+    // equals its period and U <= 1, as no bound is within reach. All sums are exact, and an
+    // overflowing busy period is not used as a bound.
+    static boolean demandTest(List<Task> taskList) {
         double U = 0;
-        for (Task t : tasks) {
+        long totalWcet = 0;
+        boolean implicit = true;
+        int minDeadline = Integer.MAX_VALUE;
+        int maxDeadline = 0;
+        for (Task t : taskList) {
             U += (double) t.wcet / t.period;
+            totalWcet += t.wcet;
+            implicit &= t.relativeDeadline == t.period;
+            minDeadline = Math.min(minDeadline, t.relativeDeadline);
+            maxDeadline = Math.max(maxDeadline, t.relativeDeadline);
         }
-
-        // Show utilization in console
-        System.out.printf("EDF Utilization = %.3f (Schedulable if ≤ 1.0)\n", U);
-        return U <= 1.0;
-    }
-
-    private int calculateHyperPeriod(List<Task> tasks) {
-        int hp = tasks.get(0).period;
-        for (int i = 1; i < tasks.size(); i++) {
-            hp = lcm(hp, tasks.get(i).period);
+        if (U > 1.0 + FULL_UTILIZATION || totalWcet == 0) {
+            return totalWcet == 0;
         }
-        return hp;
-    }
-
-    private int gcd(int a, int b) {
-        return b == 0 ? a : gcd(b, a % b);
-    }
-
-    private int lcm(int a, int b) {
-        return a * b / gcd(a, b);
-    }
-
-    private void simulateEDF(List<Task> taskList, int hp) {
-        // Reset all tasks
-        for (Task t : taskList) {
-            t.remainingTime = t.wcet;
-            t.nextRelease = 0;
-            t.deadline = t.period;
+        boolean full = U >= 1.0 - FULL_UTILIZATION;
+        if (implicit && !full) {
+            // Utilization alone is exact when every deadline equals the period, unless it is
+            // too close to 1 to trust the rounded sum
+            return true;
         }
 
-        List<Slot> slots = new ArrayList<>();
-
-        for (int time = 0; time < hp; time++) {
-            // Release new jobs at period boundaries
+        long limit = Long.MAX_VALUE;
+        if (!full) {
+            double slack = 0;
             for (Task t : taskList) {
-                if (time == t.nextRelease) {
-                    t.remainingTime = t.wcet;
-                    t.deadline = time + t.period; // set absolute deadline
-                }
+                slack += (double) (t.period - t.relativeDeadline) * t.wcet / t.period;
+            }
+            double bound = Math.ceil(slack / (1.0 - U));
+            if (bound < Long.MAX_VALUE / 2) {
+                limit = Math.max(maxDeadline, (long) bound);
+            }
+        }
+        try {
+            limit = Math.min(limit, Math.addExact(calculateHyperPeriod(taskList), maxDeadline));
+        } catch (ArithmeticException e) {
+            if (limit == Long.MAX_VALUE) {
+                return implicit && U <= 1.0;
             }
+        }
 
-            // Pick task with earliest absolute deadline
-            Task current = null;
-            for (Task t : taskList) {
-                if (t.remainingTime > 0) {
-                    if (current == null || t.deadline < current.deadline)
-                        current = t;
+        // At full utilization the busy period lasts the whole hyperperiod, and close to it the
+        // iteration creeps; it only tightens L, so it gets a fixed number of steps
+        try {
+            long busy = totalWcet;
+            for (int step = 0; !full && step < BUSY_PERIOD_STEPS && busy < limit; step++) {
+                long next = 0;
+                for (Task t : taskList) {
+                    next = Math.addExact(next, Math.multiplyExact((busy + t.period - 1) / t.period, t.wcet));
+                }
+                if (next == busy) {
+                    limit = busy;
+                    break;
                 }
+                busy = next;
             }
+        } catch (ArithmeticException e) {
+            // the busy period outgrows a long; the other bound stands
+        }
+
+        long t = lastDeadlineBefore(taskList, limit + 1);
+        long demand = demand(taskList, t);
+        while (demand <= t && demand > minDeadline) {
+            t = demand < t ? demand : lastDeadlineBefore(taskList, t);
+            demand = demand(taskList, t);
+        }
+        return demand <= minDeadline;
+    }
 
-            // Execute the selected task
-            if (current != null) {
-                current.remainingTime--;
-                slots.add(new Slot("T" + current.id, time, time + 1));
-            } else {
-                slots.add(new Slot("IDLE", time, time + 1));
+    // h(t): work of the jobs released at or after 0 whose absolute deadline is at most t.
+    // Only called with t at most the bound of demandTest, where h(t) <= U * t + sum(C) fits.
+    private static long demand(List<Task> taskList, long t) {
+        long h = 0;
+        for (Task task : taskList) {
+            if (t >= task.relativeDeadline) {
+                h = Math.addExact(h, Math.multiplyExact((t - task.relativeDeadline) / task.period + 1, task.wcet));
             }
+        }
+        return h;
+    }
 
-            // Update releases for next jobs
-            for (Task t : taskList) {
-                if (time + 1 == t.nextRelease + t.period) {
-                    t.nextRelease += t.period;
-                }
+    // Latest absolute deadline strictly before x, or 0 if there is none
+    private static long lastDeadlineBefore(List<Task> taskList, long x) {
+        long latest = 0;
+        for (Task task : taskList) {
+            if (x > task.relativeDeadline) {
+                long d = (x - 1 - task.relativeDeadline) / task.period * task.period + task.relativeDeadline;
+                latest = Math.max(latest, d);
             }
         }
+        return latest;
+    }
 
-        // Update the instance ganttSlots
-        ganttSlots.clear();
-        ganttSlots.addAll(slots);
+    // Throws ArithmeticException if the hyperperiod does not fit in a long
+    static long calculateHyperPeriod(List<Task> tasks) {
+        return Hyperperiod.of(tasks.stream().mapToInt(t -> t.period).toArray());
     }
 
-    // ---------- GUI ----------
-    class GanttPanel extends JPanel {
-        @Override
-        protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            setBackground(new Color(240, 245, 255));
-
-            Graphics2D g2 = (Graphics2D) g;
-            int y = 60;
-            int barHeight = 30;
-
-            // Map tasks to Y positions
-            Set<String> names = new LinkedHashSet<>();
-            for (Slot s : ganttSlots) names.add(s.taskName);
-            Map<String, Integer> yMap = new LinkedHashMap<>();
-
-            int offset = 0;
-            for (String name : names) {
-                yMap.put(name, y + offset);
-                offset += 50;
-            }
+    // Release times and deadlines run up to one period past `to`, so they must fit in a long
+    private static void checkWindow(List<Task> taskList, long from, long to) {
+        int longest = 0;
+        for (Task t : taskList) {
+            longest = Math.max(longest, t.period);
+        }
+        if (from < 0 || to < from || to > Long.MAX_VALUE - longest) {
+            throw new IllegalArgumentException("Window [" + from + ", " + to + ") must satisfy"
+                    + " 0 <= from <= to <= Long.MAX_VALUE - longest period");
+        }
+    }
 
-            // Fixed colors for each task (same as RMS for consistency)
-            Map<String, Color> colorMap = new HashMap<>();
-            colorMap.put("IDLE", Color.LIGHT_GRAY);
-            colorMap.put("T0", new Color(255, 100, 100));    // Red
-            colorMap.put("T1", new Color(100, 100, 255));    // Blue
-            colorMap.put("T2", new Color(100, 200, 100));    // Green
-            colorMap.put("T3", new Color(255, 200, 50));     // Orange
-            colorMap.put("T4", new Color(200, 100, 255));    // Purple
-            colorMap.put("T5", new Color(50, 200, 255));     // Light Blue
-            colorMap.put("T6", new Color(255, 150, 50));     // Orange-Red
-            colorMap.put("T7", new Color(150, 255, 150));    // Light Green
-            colorMap.put("T8", new Color(255, 100, 255));    // Pink
-            colorMap.put("T9", new Color(100, 255, 255));    // Cyan
-
-            for (Slot s : ganttSlots) {
-                // If task color not defined, create a consistent color based on task ID
-                if (!colorMap.containsKey(s.taskName) && s.taskName.startsWith("T")) {
-                    try {
-                        int taskId = Integer.parseInt(s.taskName.substring(1));
-                        // Generate consistent color based on task ID
-                        Color color = new Color(
-                                (taskId * 50) % 200 + 55,
-                                (taskId * 80) % 200 + 55,
-                                (taskId * 120) % 200 + 55
-                        );
-                        colorMap.put(s.taskName, color);
-                    } catch (NumberFormatException e) {
-                        // Fallback color for unknown tasks
-                        colorMap.put(s.taskName, Color.GRAY);
-                    }
-                }
+    static void simulateEDF(List<Task> taskList, long hp, SlotSink sink) {
+        simulateEDF(taskList, 0, hp, sink);
+    }
+
+    // Streams the schedule over [from, to), with the first slot cut at `from`. The schedule
+    // repeats every hyperperiod (see RMScheduler.simulateRMS), so the simulation starts at the
+    // last multiple at or before `from`, or at 0 if the hyperperiod overflows. As there, the
+    // events between that origin and `from` are simulated silently, so with an overflowing
+    // hyperperiod the cost grows with `from`, not with the width of the window. The same limit
+    // on `to` applies.
+    static void simulateEDF(List<Task> taskList, long from, long to, SlotSink sink) {
+        checkWindow(taskList, from, to);
+        long origin = 0;
+        try {
+            origin = from - from % calculateHyperPeriod(taskList);
+        } catch (ArithmeticException e) {
+            // no hyperperiod within range of a long
+        }
 
-                Color taskColor = colorMap.getOrDefault(s.taskName, Color.GRAY);
-                int yPos = yMap.get(s.taskName);
-                int x1 = s.start * 30 + 60;
-                int width = (s.end - s.start) * 30;
+        // Reset all tasks
+        for (Task t : taskList) {
+            t.remainingTime = t.wcet;
+            t.nextRelease = origin;
+            t.deadline = origin + t.relativeDeadline;
+        }
 
-                g2.setColor(taskColor);
-                g2.fill(new Rectangle2D.Double(x1, yPos, width, barHeight));
-                g2.setColor(Color.BLACK);
-                g2.draw(new Rectangle2D.Double(x1, yPos, width, barHeight));
+        // Released tasks ordered by absolute deadline, pending releases ordered by
+        // release time. Ties go to the lower task index, like the old per-tick scan.
+        int n = taskList.size();
+        IndexedMinHeap ready = new IndexedMinHeap(n);
+        IndexedMinHeap releases = new IndexedMinHeap(n);
+        for (int i = 0; i < n; i++) {
+            releases.insert(i, origin);
+        }
 
-                // Time markers under each slot
-                g2.setFont(new Font("Arial", Font.PLAIN, 10));
-                g2.drawString(String.valueOf(s.start), x1, yPos + barHeight + 15);
+        // Consecutive slots of the same task are merged before they reach the sink
+        SlotSink out = new MergingSlotSink(sink);
+
+        // Nothing changes between a release and a completion, so the clock jumps
+        // from event to event and each slot covers the whole stretch in between.
+        long time = origin;
+        while (time < to) {
+            // Release new jobs at period boundaries; an unfinished job is replaced
+            while (releases.peekKey() == time) {
+                int i = releases.poll();
+                Task t = taskList.get(i);
+                t.remainingTime = t.wcet;
+                t.deadline = time + t.relativeDeadline; // set absolute deadline
+                if (t.remainingTime > 0) {
+                    ready.insertOrChange(i, t.deadline);
+                } else if (ready.contains(i)) {
+                    ready.remove(i);
+                }
+                t.nextRelease = time + t.period;
+                releases.insert(i, t.nextRelease);
             }
 
-            // Draw time scale at bottom
-            g2.setFont(new Font("Arial", Font.BOLD, 11));
-            int totalWidth = ganttSlots.size() > 0 ? ganttSlots.get(ganttSlots.size() - 1).end * 30 + 60 : 0;
-            for (int t = 0; t <= totalWidth / 30; t++) {
-                g2.drawString(String.valueOf(t), 60 + t * 30, y + offset + 20);
+            long nextRelease = Math.min(releases.peekKey(), to);
+            if (ready.isEmpty()) {
+                if (nextRelease > from) {
+                    out.slot(SlotSink.IDLE, Math.max(time, from), nextRelease);
+                }
+                time = nextRelease;
+                continue;
             }
 
-            // Task labels
-            g2.setFont(new Font("Arial", Font.BOLD, 14));
-            for (Map.Entry<String, Integer> e : yMap.entrySet()) {
-                g2.drawString(e.getKey(), 10, e.getValue() + 20);
+            // Run the task with the earliest absolute deadline until the next event
+            Task current = taskList.get(ready.peek());
+            long end = Math.min(nextRelease, time + current.remainingTime);
+            current.remainingTime -= (int) (end - time);
+            if (end > from) {
+                out.slot(current.id, Math.max(time, from), end);
             }
-
-            // Title
-            g2.setFont(new Font("Arial", Font.BOLD, 18));
-            g2.drawString("Earliest Deadline First Scheduling - Gantt Chart", 320, 30);
+            if (current.remainingTime == 0) {
+                ready.poll();
+            }
+            time = end;
         }
 
-        @Override
-        public Dimension getPreferredSize() {
-            int width = ganttSlots.size() * 30 + 200;
-            return new Dimension(width, 400);
-        }
+        out.finish();
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,23 @@
 package cpuscheduler;
 
 import java.util.List;
-import java.util.ArrayList;
-import java.util.Comparator;
 
 public class FCFScheduler implements Scheduler {
     @Override
-    public void schedule(List<Process> processes, List<GanttEntry> ganttEntries, int quantum) {
-        ArrayList<Process> sorted = new ArrayList<>(processes);
-        sorted.sort(Comparator.comparingInt(p -> p.arrivalTime));
-
+    public void schedule(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
         int currentTime = 0;
-        for (Process p : sorted) {
-            if (currentTime < p.arrivalTime) {
-                currentTime = p.arrivalTime;
+        for (int p : t.arrivalOrder()) {
+            if (currentTime < t.arrivalTime[p]) {
+                currentTime = t.arrivalTime[p];
             }
             int sliceStart = currentTime;
-            p.startTime = currentTime;
-            p.completionTime = currentTime + p.remainingTime;
-            ganttEntries.add(new GanttEntry(p.pid, sliceStart, p.completionTime));
-            p.turnaroundTime = p.completionTime - p.arrivalTime;
-            p.waitingTime = p.startTime - p.arrivalTime;
-            p.responseTime = p.startTime - p.arrivalTime;
-            currentTime = p.completionTime;
+            t.startTime[p] = currentTime;
+            t.completionTime[p] = currentTime + t.remainingTime[p];
+            ganttEntries.add(new GanttEntry(t.pid(p), sliceStart, t.completionTime[p]));
+            t.turnaroundTime[p] = t.completionTime[p] - t.arrivalTime[p];
+            t.waitingTime[p] = t.startTime[p] - t.arrivalTime[p];
+            t.responseTime[p] = t.startTime[p] - t.arrivalTime[p];
+            currentTime = t.completionTime[p];
         }
     }
-}
\ No newline at end of file
+}
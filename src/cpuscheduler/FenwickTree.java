@@ -0,0 +1,38 @@
+package cpuscheduler;
+
+// Binary indexed tree of non-negative long weights over ids 0..capacity-1: weight updates,
+// totals and "which id holds the k-th unit of weight" are all O(log n).
+final class FenwickTree {
+    private final long[] tree;    // 1-based
+    private final int topBit;
+    private long total;
+
+    FenwickTree(int capacity) {
+        tree = new long[capacity + 1];
+        topBit = capacity == 0 ? 0 : Integer.highestOneBit(capacity);
+    }
+
+    long total() {
+        return total;
+    }
+
+    void add(int id, long delta) {
+        total += delta;
+        for (int i = id + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // Id whose weight covers position k of the running total, for 0 <= k < total()
+    int find(long k) {
+        int pos = 0;
+        for (int step = topBit; step > 0; step >>= 1) {
+            int next = pos + step;
+            if (next < tree.length && tree[next] <= k) {
+                pos = next;
+                k -= tree[next];
+            }
+        }
+        return pos;
+    }
+}
@@ -3,10 +3,16 @@ package cpuscheduler;
 public class GanttEntry {
     public String pid;
     public int start, end;
+    public int cpu; // lane for multi-core schedules, 0 otherwise
 
     public GanttEntry(String pid, int start, int end) {
+        this(pid, start, end, 0);
+    }
+
+    public GanttEntry(String pid, int start, int end, int cpu) {
         this.pid = pid;
         this.start = start;
         this.end = end;
+        this.cpu = cpu;
     }
-}
\ No newline at end of file
+}
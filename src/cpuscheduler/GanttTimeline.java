@@ -0,0 +1,340 @@
+package cpuscheduler;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Gantt chart painted as a single component, one lane per CPU. Entries are copied into per-lane
+// arrays sorted by start time; paintComponent binary-searches the first entry inside the clip
+// and stops at the clip's right edge, so a repaint costs O(visible entries log n). When many
+// entries share one pixel column only the first is drawn and the rest are skipped by another
+// binary search, which keeps fully zoomed-out charts of millions of slices cheap.
+// Ctrl + mouse wheel zooms around the cursor; the plain wheel scrolls.
+public class GanttTimeline extends JComponent implements Scrollable {
+    private static final Font PID_FONT = new Font("Segoe UI", Font.BOLD, 10);
+    private static final Font TIME_FONT = new Font("Segoe UI", Font.PLAIN, 8);
+    private static final Font LANE_FONT = new Font("Segoe UI", Font.BOLD, 11);
+    private static final Color IDLE_COLOR = new Color(225, 225, 225);
+    private static final int LANE_HEIGHT = 40;
+    private static final int LANE_GAP = 2;
+    private static final double MAX_SCALE = 200;     // pixels per time unit
+    private static final double MAX_WIDTH = 1 << 30; // keeps pixel positions inside int range
+
+    private int[][] starts = new int[0][];
+    private int[][] ends = new int[0][];
+    private String[][] pids = new String[0][];
+    private Color[][] colors = new Color[0][];
+    private int horizon;
+    private int gutter;
+    private double scale = 20;
+
+    public GanttTimeline() {
+        setBackground(Color.WHITE);
+        setOpaque(true);
+        setToolTipText("");
+        addMouseWheelListener(this::mouseWheelMoved);
+    }
+
+    // Replaces the chart. Entries may come in any order; each lane must not overlap itself.
+    public void setEntries(List<GanttEntry> entries) {
+        int lanes = 0;
+        horizon = 0;
+        for (GanttEntry e : entries) {
+            lanes = Math.max(lanes, e.cpu + 1);
+            horizon = Math.max(horizon, e.end);
+        }
+        int[] counts = new int[lanes];
+        for (GanttEntry e : entries) {
+            counts[e.cpu]++;
+        }
+        starts = new int[lanes][];
+        ends = new int[lanes][];
+        pids = new String[lanes][];
+        colors = new Color[lanes][];
+        for (int lane = 0; lane < lanes; lane++) {
+            starts[lane] = new int[counts[lane]];
+            ends[lane] = new int[counts[lane]];
+            pids[lane] = new String[counts[lane]];
+            colors[lane] = new Color[counts[lane]];
+        }
+
+        Map<String, Color> palette = new HashMap<>();
+        int[] fill = new int[lanes];
+        boolean sorted = true;
+        for (GanttEntry e : entries) {
+            int lane = e.cpu;
+            int i = fill[lane]++;
+            starts[lane][i] = e.start;
+            ends[lane][i] = e.end;
+            pids[lane][i] = e.pid;
+            colors[lane][i] = palette.computeIfAbsent(e.pid, GanttTimeline::processColor);
+            sorted &= i == 0 || starts[lane][i - 1] <= e.start;
+        }
+        if (!sorted) {
+            for (int lane = 0; lane < lanes; lane++) {
+                sortLane(lane);
+            }
+        }
+
+        gutter = lanes > 1 ? 50 : 0;
+        setScale(scale);
+        revalidate();
+        repaint();
+    }
+
+    public void clear() {
+        setEntries(List.of());
+    }
+
+    public void zoomIn() {
+        zoomAround(1.5, visibleCenter());
+    }
+
+    public void zoomOut() {
+        zoomAround(1 / 1.5, visibleCenter());
+    }
+
+    // Scale so the whole schedule fits the visible width
+    public void zoomToFit() {
+        if (horizon == 0) {
+            return;
+        }
+        JViewport viewport = (JViewport) SwingUtilities.getAncestorOfClass(JViewport.class, this);
+        int width = viewport != null ? viewport.getWidth() : getWidth();
+        setScale((width - gutter - 4) / (double) horizon);
+        revalidate();
+        repaint();
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = gutter + (int) Math.ceil(horizon * scale) + 4;
+        int height = Math.max(1, starts.length) * (LANE_HEIGHT + LANE_GAP);
+        return new Dimension(width, height);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (horizon == 0) {
+            return;
+        }
+
+        double fromTime = Math.max(0, (clip.x - gutter) / scale);
+        double toTime = (clip.x + clip.width - gutter) / scale;
+        for (int lane = 0; lane < starts.length; lane++) {
+            int y = lane * (LANE_HEIGHT + LANE_GAP);
+            if (y > clip.y + clip.height || y + LANE_HEIGHT < clip.y) {
+                continue;
+            }
+            if (gutter > 0) {
+                g.setFont(LANE_FONT);
+                g.setColor(Color.DARK_GRAY);
+                g.drawString("CPU " + lane, 4, y + LANE_HEIGHT / 2 + 4);
+            }
+            int idleFrom = Math.max(gutter, clip.x);
+            int idleTo = Math.min(x(horizon), clip.x + clip.width);
+            g.setColor(IDLE_COLOR);
+            g.fillRect(idleFrom, y, idleTo - idleFrom, LANE_HEIGHT);
+            paintLane(g, lane, y, fromTime, toTime);
+        }
+    }
+
+    private void paintLane(Graphics g, int lane, int y, double fromTime, double toTime) {
+        int[] s = starts[lane];
+        int[] e = ends[lane];
+        // Last entry starting at or before the clip may still reach into it
+        int i = Math.max(0, upperBound(s, (long) Math.floor(fromTime)) - 1);
+        while (i < s.length && s[i] <= toTime) {
+            int x0 = x(s[i]);
+            int x1 = x(e[i]);
+            if (x1 <= x0 + 1) {
+                // Narrower than a pixel: draw one column, then jump to the last entry starting
+                // before the next column, the only one of the skipped entries that can reach it
+                g.setColor(colors[lane][i]);
+                g.fillRect(x0, y, 1, LANE_HEIGHT);
+                long nextColumnTime = (long) Math.ceil((x0 + 1 - gutter) / scale);
+                i = Math.max(i + 1, lowerBound(s, nextColumnTime) - 1);
+                continue;
+            }
+            g.setColor(colors[lane][i]);
+            g.fillRect(x0, y, x1 - x0, LANE_HEIGHT);
+            g.setColor(Color.DARK_GRAY);
+            g.drawRect(x0, y, x1 - x0 - 1, LANE_HEIGHT - 1);
+            paintLabels(g, pids[lane][i], s[i], e[i], x0, x1, y);
+            i++;
+        }
+    }
+
+    private void paintLabels(Graphics g, String pid, int start, int end, int x0, int x1, int y) {
+        int width = x1 - x0;
+        g.setColor(Color.BLACK);
+        g.setFont(PID_FONT);
+        FontMetrics fm = g.getFontMetrics();
+        if (fm.stringWidth(pid) + 4 <= width) {
+            g.drawString(pid, x0 + (width - fm.stringWidth(pid)) / 2, y + LANE_HEIGHT / 2);
+        }
+        String time = start + "-" + end;
+        g.setFont(TIME_FONT);
+        fm = g.getFontMetrics();
+        if (fm.stringWidth(time) + 4 <= width) {
+            g.drawString(time, x0 + (width - fm.stringWidth(time)) / 2, y + LANE_HEIGHT - 4);
+        }
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        int lane = event.getY() / (LANE_HEIGHT + LANE_GAP);
+        if (lane >= starts.length || event.getX() < gutter) {
+            return null;
+        }
+        double time = (event.getX() - gutter) / scale;
+        int i = upperBound(starts[lane], (long) Math.floor(time)) - 1;
+        if (i < 0 || ends[lane][i] <= time) {
+            return null;
+        }
+        String prefix = starts.length > 1 ? "CPU " + lane + ": " : "";
+        return prefix + pids[lane][i] + " [" + starts[lane][i] + ", " + ends[lane][i] + ")";
+    }
+
+    private void mouseWheelMoved(MouseWheelEvent e) {
+        if (!e.isControlDown()) {
+            // Let the enclosing scroll pane scroll as usual
+            Container scrollPane = SwingUtilities.getAncestorOfClass(JScrollPane.class, this);
+            if (scrollPane != null) {
+                scrollPane.dispatchEvent(SwingUtilities.convertMouseEvent(this, e, scrollPane));
+            }
+            return;
+        }
+        zoomAround(Math.pow(1.25, -e.getPreciseWheelRotation()), e.getX());
+    }
+
+    // Changes the scale while keeping the time under pixel x at the same place in the viewport
+    private void zoomAround(double factor, int x) {
+        double time = (x - gutter) / scale;
+        Rectangle visible = getVisibleRect();
+        int offset = x - visible.x;
+        setScale(scale * factor);
+
+        setSize(getPreferredSize());
+        JViewport viewport = (JViewport) SwingUtilities.getAncestorOfClass(JViewport.class, this);
+        if (viewport != null) {
+            int maxX = Math.max(0, getWidth() - viewport.getWidth());
+            int viewX = (int) Math.max(0, Math.min(maxX, gutter + time * scale - offset));
+            viewport.setViewPosition(new Point(viewX, viewport.getViewPosition().y));
+        }
+        revalidate();
+        repaint();
+    }
+
+    private void setScale(double newScale) {
+        double maxScale = horizon == 0 ? MAX_SCALE : Math.min(MAX_SCALE, MAX_WIDTH / horizon);
+        double minScale = horizon == 0 ? maxScale : Math.min(maxScale, 100.0 / horizon);
+        scale = Math.max(minScale, Math.min(maxScale, newScale));
+    }
+
+    private int visibleCenter() {
+        Rectangle visible = getVisibleRect();
+        return visible.x + visible.width / 2;
+    }
+
+    private int x(int time) {
+        return gutter + (int) Math.round(time * scale);
+    }
+
+    // ---------- Scrollable ----------
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return getPreferredSize();
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.HORIZONTAL ? 20 : LANE_HEIGHT + LANE_GAP;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.HORIZONTAL ? visibleRect.width : visibleRect.height;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    // ---------- Lane arrays ----------
+    private void sortLane(int lane) {
+        int n = starts[lane].length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = ((long) starts[lane][i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] s = new int[n];
+        int[] e = new int[n];
+        String[] p = new String[n];
+        Color[] c = new Color[n];
+        for (int i = 0; i < n; i++) {
+            int from = (int) keys[i];
+            s[i] = starts[lane][from];
+            e[i] = ends[lane][from];
+            p[i] = pids[lane][from];
+            c[i] = colors[lane][from];
+        }
+        starts[lane] = s;
+        ends[lane] = e;
+        pids[lane] = p;
+        colors[lane] = c;
+    }
+
+    // First index whose start is >= time
+    private static int lowerBound(int[] s, long time) {
+        int lo = 0, hi = s.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (s[mid] < time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // First index whose start is > time
+    private static int upperBound(int[] s, long time) {
+        int lo = 0, hi = s.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (s[mid] <= time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    static Color processColor(String pid) {
+        Random random = new Random(pid.hashCode());
+        return new Color(
+                random.nextInt(200) + 55,
+                random.nextInt(200) + 55,
+                random.nextInt(200) + 55
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package cpuscheduler;
+
+// Hyperperiod of a periodic task set in long arithmetic. A few dozen unrelated periods can
+// already have an LCM beyond 2^63, so overflow is reported instead of silently wrapping.
+final class Hyperperiod {
+    private Hyperperiod() {
+    }
+
+    // LCM of the periods; throws ArithmeticException if it does not fit in a long
+    static long of(int[] periods) {
+        long hp = 1;
+        for (int period : periods) {
+            hp = lcm(hp, period);
+        }
+        return hp;
+    }
+
+    static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    static long lcm(long a, long b) {
+        return Math.multiplyExact(a / gcd(a, b), b);
+    }
+}
@@ -0,0 +1,144 @@
+package cpuscheduler;
+
+import java.util.Arrays;
+
+// Binary min-heap over the ids 0..capacity-1, ordered by a long key and then by id.
+// Every id knows its heap slot, so contains/remove/changeKey are O(1)/O(log n) without scanning.
+final class IndexedMinHeap {
+    private final int[] heap;
+    private final int[] slot;
+    private final long[] key;
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        slot = new int[capacity];
+        key = new long[capacity];
+        Arrays.fill(slot, -1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int id) {
+        return slot[id] != -1;
+    }
+
+    int peek() {
+        return heap[0];
+    }
+
+    long peekKey() {
+        return key[heap[0]];
+    }
+
+    long keyOf(int id) {
+        return key[id];
+    }
+
+    void insert(int id, long k) {
+        key[id] = k;
+        heap[size] = id;
+        slot[id] = size;
+        siftUp(size++);
+    }
+
+    int poll() {
+        int top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    void remove(int id) {
+        removeAt(slot[id]);
+    }
+
+    void changeKey(int id, long k) {
+        long old = key[id];
+        key[id] = k;
+        if (k < old) {
+            siftUp(slot[id]);
+        } else {
+            siftDown(slot[id]);
+        }
+    }
+
+    // Inserts the id, or moves it if it is already queued.
+    void insertOrChange(int id, long k) {
+        if (contains(id)) {
+            changeKey(id, k);
+        } else {
+            insert(id, k);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            slot[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void removeAt(int i) {
+        int id = heap[i];
+        slot[id] = -1;
+        size--;
+        if (i == size) {
+            return;
+        }
+        int last = heap[size];
+        heap[i] = last;
+        slot[last] = i;
+        siftDown(i);
+        if (heap[i] == last) {
+            siftUp(i);
+        }
+    }
+
+    private boolean less(int a, int b) {
+        return key[a] < key[b] || (key[a] == key[b] && a < b);
+    }
+
+    private void siftUp(int i) {
+        int id = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            int p = heap[parent];
+            if (!less(id, p)) {
+                break;
+            }
+            heap[i] = p;
+            slot[p] = i;
+            i = parent;
+        }
+        heap[i] = id;
+        slot[id] = i;
+    }
+
+    private void siftDown(int i) {
+        int id = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int c = heap[child];
+            int right = child + 1;
+            if (right < size && less(heap[right], c)) {
+                child = right;
+                c = heap[child];
+            }
+            if (!less(c, id)) {
+                break;
+            }
+            heap[i] = c;
+            slot[c] = i;
+            i = child;
+        }
+        heap[i] = id;
+        slot[id] = i;
+    }
+}
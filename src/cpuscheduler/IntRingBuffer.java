@@ -0,0 +1,69 @@
+package cpuscheduler;
+
+// Growable FIFO of ints backed by a circular array; used as a run queue of table rows.
+final class IntRingBuffer {
+    private int[] items;
+    private int head, size;
+
+    IntRingBuffer() {
+        this(16);
+    }
+
+    IntRingBuffer(int capacity) {
+        items = new int[Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void addLast(int value) {
+        if (size == items.length) {
+            grow();
+        }
+        items[(head + size++) & (items.length - 1)] = value;
+    }
+
+    void addFirst(int value) {
+        if (size == items.length) {
+            grow();
+        }
+        head = (head - 1) & (items.length - 1);
+        items[head] = value;
+        size++;
+    }
+
+    int peekFirst() {
+        return items[head];
+    }
+
+    int pollFirst() {
+        int value = items[head];
+        head = (head + 1) & (items.length - 1);
+        size--;
+        return value;
+    }
+
+    int pollLast() {
+        size--;
+        return items[(head + size) & (items.length - 1)];
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        int[] bigger = new int[items.length * 2];
+        for (int i = 0; i < size; i++) {
+            bigger[i] = items[(head + i) & (items.length - 1)];
+        }
+        items = bigger;
+        head = 0;
+    }
+}
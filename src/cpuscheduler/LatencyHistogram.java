@@ -0,0 +1,99 @@
+package cpuscheduler;
+
+// Constant-memory histogram of non-negative times, for tail percentiles over any number of
+// processes. Values below 256 get a bucket each; above that every power of two is split into
+// 128 buckets, so a percentile is off by less than 1% of its value. Count, min, max, mean and
+// standard deviation are exact.
+public class LatencyHistogram {
+    private static final int SUB_BITS = 8;
+    private static final int HALF = 1 << (SUB_BITS - 1);
+    private static final int BUCKETS = bucket(Long.MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private double mean;
+    private double m2;     // sum of squared differences from the mean (Welford)
+
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative time: " + value);
+        }
+        counts[bucket(value)]++;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    public void add(LatencyHistogram other) {
+        if (other.count == 0) {
+            return;
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        mean += delta * other.count / total;
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long min() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long max() {
+        return count == 0 ? 0 : max;
+    }
+
+    public double mean() {
+        return mean;
+    }
+
+    public double stdDev() {
+        return count == 0 ? 0 : Math.sqrt(m2 / count);
+    }
+
+    // Nearest-rank percentile, e.g. percentile(0.99); the top of the bucket holding that rank
+    public long percentile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(max, highestValue(i)));
+            }
+        }
+        return max;
+    }
+
+    // Values below 2 * HALF map to themselves; above, the top SUB_BITS bits pick the bucket
+    private static int bucket(long value) {
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - (SUB_BITS - 1));
+        return HALF * shift + (int) (value >>> shift);
+    }
+
+    private static long highestValue(int bucket) {
+        if (bucket < 2 * HALF) {
+            return bucket;
+        }
+        int shift = bucket / HALF - 1;
+        long sub = bucket - HALF * shift;
+        long next = (sub + 1) << shift;
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+}
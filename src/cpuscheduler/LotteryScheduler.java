@@ -0,0 +1,70 @@
+package cpuscheduler;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Lottery scheduling: a process holds max(1, priority) tickets, and at every quantum a random
+// ticket among the ready processes picks the one that runs, so over time each gets CPU in
+// proportion to its tickets. Tickets live in a FenwickTree over arrival positions, so a draw,
+// an arrival and a completion are each O(log n). The seed is fixed per scheduler, so the same
+// workload always gives the same schedule.
+public class LotteryScheduler implements Scheduler {
+    public static final long DEFAULT_SEED = 42;
+
+    private final long seed;
+
+    public LotteryScheduler() {
+        this(DEFAULT_SEED);
+    }
+
+    public LotteryScheduler(long seed) {
+        this.seed = seed;
+    }
+
+    static int tickets(int priority) {
+        return Math.max(1, priority);
+    }
+
+    @Override
+    public void schedule(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
+        int[] order = t.arrivalOrder();
+        int n = order.length;
+        SplittableRandom random = new SplittableRandom(seed);
+        FenwickTree ready = new FenwickTree(n);
+
+        int currentTime = 0;
+        int index = 0;
+        int remaining = n;
+
+        while (remaining > 0) {
+            while (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                ready.add(index, tickets(t.priority[order[index]]));
+                index++;
+            }
+            if (ready.total() == 0) {
+                currentTime = t.arrivalTime[order[index]];
+                continue;
+            }
+
+            int winner = ready.find(random.nextLong(ready.total()));
+            int p = order[winner];
+            if (t.startTime[p] == -1) {
+                t.startTime[p] = currentTime;
+            }
+            int sliceStart = currentTime;
+            int executionTime = Math.min(quantum, t.remainingTime[p]);
+            t.remainingTime[p] -= executionTime;
+            currentTime += executionTime;
+            ganttEntries.add(new GanttEntry(t.pid(p), sliceStart, currentTime));
+
+            if (t.remainingTime[p] == 0) {
+                ready.add(winner, -tickets(t.priority[p]));
+                remaining--;
+                t.completionTime[p] = currentTime;
+                t.turnaroundTime[p] = t.completionTime[p] - t.arrivalTime[p];
+                t.waitingTime[p] = t.turnaroundTime[p] - t.burstTime[p];
+                t.responseTime[p] = t.startTime[p] - t.arrivalTime[p];
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package cpuscheduler;
+
+import java.util.List;
+
+// Multilevel feedback queue. Level 0 has the highest priority and new arrivals enter it.
+// - A process that uses up its level's quantum (in total, across preemptions) moves down a
+//   level; the lowest level is plain round robin.
+// - A process is preempted as soon as one arrives at a higher level, and resumes at the head of
+//   its own queue with what is left of its quantum.
+// - Every boostInterval time units all waiting processes move back to level 0 with fresh
+//   quanta, so long jobs cannot starve. 0 turns the boost off.
+// Unless given explicitly, level k's quantum is the scheduler quantum times 2^k.
+// Each level is an IntRingBuffer and a long bitmap marks the non-empty ones, so pick-next is a
+// numberOfTrailingZeros and every step is O(1); the clock jumps between arrivals, quantum
+// expiries, completions and boosts, and a boost costs one move per waiting process.
+public class MLFQScheduler implements Scheduler {
+    public static final int DEFAULT_LEVELS = 3;
+    public static final int DEFAULT_BOOST_INTERVAL = 100;
+
+    private final int levels;
+    private final int[] quanta;
+    private final int boostInterval;
+
+    public MLFQScheduler() {
+        this(DEFAULT_LEVELS, DEFAULT_BOOST_INTERVAL);
+    }
+
+    public MLFQScheduler(int levels, int boostInterval) {
+        this(levels, null, boostInterval);
+    }
+
+    // quanta[k] is level k's quantum; the scheduler quantum is then ignored
+    public MLFQScheduler(int[] quanta, int boostInterval) {
+        this(quanta.length, quanta.clone(), boostInterval);
+    }
+
+    private MLFQScheduler(int levels, int[] quanta, int boostInterval) {
+        if (levels < 1 || levels > Long.SIZE) {
+            throw new IllegalArgumentException("MLFQ needs between 1 and " + Long.SIZE + " levels");
+        }
+        if (quanta != null) {
+            for (int q : quanta) {
+                if (q <= 0) {
+                    throw new IllegalArgumentException("Quanta must be positive");
+                }
+            }
+        }
+        if (boostInterval < 0) {
+            throw new IllegalArgumentException("Boost interval must not be negative");
+        }
+        this.levels = levels;
+        this.quanta = quanta;
+        this.boostInterval = boostInterval;
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+
+    @Override
+    public void schedule(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
+        int[] quantumOf = new int[levels];
+        for (int k = 0; k < levels; k++) {
+            quantumOf[k] = quanta != null ? quanta[k]
+                    : (int) Math.min((long) Math.max(quantum, 1) << Math.min(k, 31), Integer.MAX_VALUE);
+        }
+
+        int[] order = t.arrivalOrder();
+        int n = order.length;
+        int[] level = new int[t.size()];
+        int[] used = new int[t.size()];     // time used of the current level's quantum
+        IntRingBuffer[] queues = new IntRingBuffer[levels];
+        for (int k = 0; k < levels; k++) {
+            queues[k] = new IntRingBuffer();
+        }
+        long nonEmpty = 0;                  // bit k set when queues[k] has processes
+
+        int currentTime = 0;
+        int index = 0;
+        int current = -1;
+        int sliceStart = -1;
+
+        while (index < n || nonEmpty != 0 || current != -1) {
+            while (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                queues[0].addLast(order[index]);
+                nonEmpty |= 1;
+                index++;
+            }
+
+            // An arrival at a higher level preempts; the process keeps its place and its quantum
+            if (current != -1 && (nonEmpty & ((1L << level[current]) - 1)) != 0) {
+                ganttEntries.add(new GanttEntry(t.pid(current), sliceStart, currentTime));
+                queues[level[current]].addFirst(current);
+                nonEmpty |= 1L << level[current];
+                current = -1;
+            }
+
+            if (current == -1) {
+                if (nonEmpty == 0) {
+                    currentTime = t.arrivalTime[order[index]];
+                    continue;
+                }
+                int k = Long.numberOfTrailingZeros(nonEmpty);
+                current = queues[k].pollFirst();
+                if (queues[k].isEmpty()) {
+                    nonEmpty &= ~(1L << k);
+                }
+                if (t.startTime[current] == -1) {
+                    t.startTime[current] = currentTime;
+                }
+                sliceStart = currentTime;
+            }
+
+            // Run until completion, quantum expiry, a preempting arrival or the next boost
+            int k = level[current];
+            long end = currentTime + Math.min(t.remainingTime[current], quantumOf[k] - used[current]);
+            if (k > 0 && index < n) {
+                end = Math.min(end, t.arrivalTime[order[index]]);
+            }
+            if (boostInterval > 0) {
+                end = Math.min(end, ((long) currentTime / boostInterval + 1) * boostInterval);
+            }
+            int ran = (int) (end - currentTime);
+            t.remainingTime[current] -= ran;
+            used[current] += ran;
+            currentTime = (int) end;
+
+            // Arrivals during the slice go ahead of a process demoted at its end, as in round robin
+            while (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                queues[0].addLast(order[index]);
+                nonEmpty |= 1;
+                index++;
+            }
+
+            if (t.remainingTime[current] == 0) {
+                ganttEntries.add(new GanttEntry(t.pid(current), sliceStart, currentTime));
+                t.completionTime[current] = currentTime;
+                t.turnaroundTime[current] = t.completionTime[current] - t.arrivalTime[current];
+                t.waitingTime[current] = t.turnaroundTime[current] - t.burstTime[current];
+                t.responseTime[current] = t.startTime[current] - t.arrivalTime[current];
+                current = -1;
+            } else if (used[current] == quantumOf[k]) {
+                ganttEntries.add(new GanttEntry(t.pid(current), sliceStart, currentTime));
+                level[current] = Math.min(k + 1, levels - 1);
+                used[current] = 0;
+                queues[level[current]].addLast(current);
+                nonEmpty |= 1L << level[current];
+                current = -1;
+            }
+
+            if (boostInterval > 0 && currentTime % boostInterval == 0) {
+                // Lower levels join the back of level 0 in priority order; a running process
+                // just continues at level 0 with a fresh quantum
+                for (int l = 1; l < levels; l++) {
+                    IntRingBuffer queue = queues[l];
+                    while (!queue.isEmpty()) {
+                        int p = queue.pollFirst();
+                        level[p] = 0;
+                        used[p] = 0;
+                        queues[0].addLast(p);
+                    }
+                }
+                nonEmpty = queues[0].isEmpty() ? 0 : 1;
+                if (current != -1) {
+                    level[current] = 0;
+                    used[current] = 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package cpuscheduler;
+
+// Run-length merges back-to-back slots of the same task before passing them on.
+public class MergingSlotSink implements SlotSink {
+    private final SlotSink target;
+    private int taskId;
+    private long start, end;
+    private boolean pending;
+
+    public MergingSlotSink(SlotSink target) {
+        this.target = target;
+    }
+
+    @Override
+    public void slot(int taskId, long start, long end) {
+        if (pending && taskId == this.taskId && start == this.end) {
+            this.end = end;
+            return;
+        }
+        flush();
+        this.taskId = taskId;
+        this.start = start;
+        this.end = end;
+        pending = true;
+    }
+
+    @Override
+    public void finish() {
+        flush();
+        target.finish();
+    }
+
+    private void flush() {
+        if (pending) {
+            target.slot(taskId, start, end);
+            pending = false;
+        }
+    }
+}
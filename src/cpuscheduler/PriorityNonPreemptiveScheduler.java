@@ -1,46 +1,42 @@
 package cpuscheduler;
 
 import java.util.List;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.PriorityQueue;
 
 public class PriorityNonPreemptiveScheduler implements Scheduler {
     @Override
-    public void schedule(List<Process> processes, List<GanttEntry> ganttEntries, int quantum) {
-        ArrayList<Process> processesCopy = new ArrayList<>(processes);
-        processesCopy.sort(Comparator.comparingInt(p -> p.arrivalTime));
+    public void schedule(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
+        int[] order = t.arrivalOrder();
+        int n = order.length;
 
-        PriorityQueue<Process> readyQueue = new PriorityQueue<>(
-                Comparator.comparingInt((Process p) -> p.priority)
-                        .thenComparingInt(p -> p.arrivalTime)
-        );
+        // Ready processes keyed on priority. Ids are positions in arrival order,
+        // so equal priorities go to the earlier arrival.
+        IndexedMinHeap readyQueue = new IndexedMinHeap(n);
 
         int currentTime = 0;
         int index = 0;
 
-        while (index < processesCopy.size() || !readyQueue.isEmpty()) {
-            while (index < processesCopy.size() && processesCopy.get(index).arrivalTime <= currentTime) {
-                readyQueue.add(processesCopy.get(index));
+        while (index < n || !readyQueue.isEmpty()) {
+            while (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                readyQueue.insert(index, t.priority[order[index]]);
                 index++;
             }
 
             if (readyQueue.isEmpty()) {
-                if (index < processesCopy.size()) {
-                    currentTime = processesCopy.get(index).arrivalTime;
+                if (index < n) {
+                    currentTime = t.arrivalTime[order[index]];
                 }
                 continue;
             }
 
-            Process current = readyQueue.poll();
+            int current = order[readyQueue.poll()];
             int sliceStart = currentTime;
-            current.startTime = currentTime;
-            current.completionTime = currentTime + current.remainingTime;
-            ganttEntries.add(new GanttEntry(current.pid, sliceStart, current.completionTime));
-            current.turnaroundTime = current.completionTime - current.arrivalTime;
-            current.waitingTime = current.startTime - current.arrivalTime;
-            current.responseTime = current.startTime - current.arrivalTime;
-            currentTime = current.completionTime;
+            t.startTime[current] = currentTime;
+            t.completionTime[current] = currentTime + t.remainingTime[current];
+            ganttEntries.add(new GanttEntry(t.pid(current), sliceStart, t.completionTime[current]));
+            t.turnaroundTime[current] = t.completionTime[current] - t.arrivalTime[current];
+            t.waitingTime[current] = t.startTime[current] - t.arrivalTime[current];
+            t.responseTime[current] = t.startTime[current] - t.arrivalTime[current];
+            currentTime = t.completionTime[current];
         }
     }
-}
\ No newline at end of file
+}
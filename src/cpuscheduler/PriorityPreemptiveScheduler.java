@@ -1,67 +1,66 @@
 package cpuscheduler;
 
 import java.util.List;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.PriorityQueue;
 
 public class PriorityPreemptiveScheduler implements Scheduler {
     @Override
-    public void schedule(List<Process> processes, List<GanttEntry> ganttEntries, int quantum) {
-        ArrayList<Process> processesCopy = new ArrayList<>(processes);
-        processesCopy.sort(Comparator.comparingInt(p -> p.arrivalTime));
+    public void schedule(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
+        int[] order = t.arrivalOrder();
+        int n = order.length;
 
-        PriorityQueue<Process> readyQueue = new PriorityQueue<>(
-                Comparator.comparingInt((Process p) -> p.priority)
-                        .thenComparingInt(p -> p.arrivalTime)
-        );
+        // Ready processes keyed on priority. Ids are positions in arrival order,
+        // so equal priorities still go to the earlier arrival.
+        IndexedMinHeap readyQueue = new IndexedMinHeap(n);
 
         int currentTime = 0;
         int index = 0;
-        Process currentProcess = null;
+        int current = -1;
         int sliceStart = -1;
 
-        while (index < processesCopy.size() || !readyQueue.isEmpty() || currentProcess != null) {
-            while (index < processesCopy.size() && processesCopy.get(index).arrivalTime <= currentTime) {
-                readyQueue.add(processesCopy.get(index));
+        // Decisions only change at arrivals and completions, so each pass jumps to
+        // whichever comes first instead of stepping one time unit.
+        while (index < n || !readyQueue.isEmpty() || current != -1) {
+            while (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                readyQueue.insert(index, t.priority[order[index]]);
                 index++;
             }
 
-            if (currentProcess != null && !readyQueue.isEmpty()) {
-                Process highestPriority = readyQueue.peek();
-                if (highestPriority.priority < currentProcess.priority) {
-                    ganttEntries.add(new GanttEntry(currentProcess.pid, sliceStart, currentTime));
-                    readyQueue.add(currentProcess);
-                    currentProcess = null;
-                    sliceStart = currentTime;
-                }
+            if (current != -1 && !readyQueue.isEmpty()
+                    && readyQueue.peekKey() < t.priority[order[current]]) {
+                ganttEntries.add(new GanttEntry(t.pid(order[current]), sliceStart, currentTime));
+                readyQueue.insert(current, t.priority[order[current]]);
+                current = -1;
             }
 
-            if (currentProcess == null && !readyQueue.isEmpty()) {
-                currentProcess = readyQueue.poll();
-                if (currentProcess.startTime == -1) {
-                    currentProcess.startTime = currentTime;
+            if (current == -1) {
+                if (readyQueue.isEmpty()) {
+                    currentTime = t.arrivalTime[order[index]];
+                    continue;
+                }
+                current = readyQueue.poll();
+                if (t.startTime[order[current]] == -1) {
+                    t.startTime[order[current]] = currentTime;
                 }
                 sliceStart = currentTime;
             }
 
-            if (currentProcess == null) {
-                currentTime++;
-                continue;
+            int p = order[current];
+            int nextEvent = currentTime + t.remainingTime[p];
+            if (index < n && t.arrivalTime[order[index]] < nextEvent) {
+                nextEvent = t.arrivalTime[order[index]];
             }
+            t.remainingTime[p] -= nextEvent - currentTime;
+            currentTime = nextEvent;
 
-            currentProcess.remainingTime--;
-            currentTime++;
-
-            if (currentProcess.remainingTime == 0) {
-                ganttEntries.add(new GanttEntry(currentProcess.pid, sliceStart, currentTime));
-                currentProcess.completionTime = currentTime;
-                currentProcess.turnaroundTime = currentProcess.completionTime - currentProcess.arrivalTime;
-                currentProcess.waitingTime = currentProcess.turnaroundTime - currentProcess.burstTime;
-                currentProcess.responseTime = currentProcess.startTime - currentProcess.arrivalTime;
-                currentProcess = null;
+            if (t.remainingTime[p] == 0) {
+                ganttEntries.add(new GanttEntry(t.pid(p), sliceStart, currentTime));
+                t.completionTime[p] = currentTime;
+                t.turnaroundTime[p] = t.completionTime[p] - t.arrivalTime[p];
+                t.waitingTime[p] = t.turnaroundTime[p] - t.burstTime[p];
+                t.responseTime[p] = t.startTime[p] - t.arrivalTime[p];
+                current = -1;
                 sliceStart = currentTime;
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package cpuscheduler;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Input table backed directly by the simulator's process list. Cells are read on demand and
+// every change fires events for just the rows it touched; a pid set keeps the uniqueness
+// check O(1) for large workloads.
+class ProcessInputTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {"Process ID", "Arrival Time", "Burst Time", "Priority", "Actions"};
+
+    private final List<Process> processes;
+    private final Set<String> pids = new HashSet<>();
+
+    ProcessInputTableModel(List<Process> processes) {
+        this.processes = processes;
+        for (Process p : processes) {
+            pids.add(p.pid);
+        }
+    }
+
+    boolean containsPid(String pid) {
+        return pids.contains(pid);
+    }
+
+    void add(Process p) {
+        processes.add(p);
+        pids.add(p.pid);
+        fireTableRowsInserted(processes.size() - 1, processes.size() - 1);
+    }
+
+    void addAll(List<Process> added) {
+        if (added.isEmpty()) {
+            return;
+        }
+        int first = processes.size();
+        processes.addAll(added);
+        for (Process p : added) {
+            pids.add(p.pid);
+        }
+        fireTableRowsInserted(first, processes.size() - 1);
+    }
+
+    void remove(int row) {
+        pids.remove(processes.remove(row).pid);
+        fireTableRowsDeleted(row, row);
+    }
+
+    void clear() {
+        int size = processes.size();
+        if (size == 0) {
+            return;
+        }
+        processes.clear();
+        pids.clear();
+        fireTableRowsDeleted(0, size - 1);
+    }
+
+    @Override
+    public int getRowCount() {
+        return processes.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return column == 4;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Process p = processes.get(row);
+        switch (column) {
+            case 0: return p.pid;
+            case 1: return p.arrivalTime;
+            case 2: return p.burstTime;
+            case 3: return p.priority;
+            default: return "Delete";
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package cpuscheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Column-oriented process store for large workloads: one int array per Process field,
+// indexed by row, with every pid String kept once in a symbol table.
+// Arrays may be longer than size(); only rows below size() are valid.
+public class ProcessTable {
+    public int[] arrivalTime, burstTime, priority;
+    public int[] startTime, completionTime, turnaroundTime, waitingTime, responseTime;
+    public int[] remainingTime;
+
+    private int[] pidRef;
+    private final List<String> symbols;
+    private final Map<String, Integer> symbolIds;
+    private int size;
+    private volatile int[] arrivalOrder;
+
+    public ProcessTable() {
+        this(16);
+    }
+
+    public ProcessTable(int capacity) {
+        capacity = Math.max(capacity, 1);
+        arrivalTime = new int[capacity];
+        burstTime = new int[capacity];
+        priority = new int[capacity];
+        pidRef = new int[capacity];
+        symbols = new ArrayList<>();
+        symbolIds = new HashMap<>();
+        allocateResults(capacity);
+    }
+
+    // Shares the input columns and pid symbols of `source`, with its own result columns
+    private ProcessTable(ProcessTable source) {
+        arrivalTime = source.arrivalTime;
+        burstTime = source.burstTime;
+        priority = source.priority;
+        pidRef = source.pidRef;
+        symbols = source.symbols;
+        symbolIds = source.symbolIds;
+        size = source.size;
+        arrivalOrder = source.arrivalOrder();
+        allocateResults(size);
+        reset();
+    }
+
+    public static ProcessTable from(List<Process> processes) {
+        ProcessTable table = new ProcessTable(processes.size());
+        for (Process p : processes) {
+            int row = table.add(p.pid, p.arrivalTime, p.burstTime, p.priority);
+            table.startTime[row] = p.startTime;
+            table.completionTime[row] = p.completionTime;
+            table.turnaroundTime[row] = p.turnaroundTime;
+            table.waitingTime[row] = p.waitingTime;
+            table.responseTime[row] = p.responseTime;
+            table.remainingTime[row] = p.remainingTime;
+        }
+        return table;
+    }
+
+    // Independent copy for another scheduler run. Input columns are shared, so the
+    // source must not be modified while copies are in use.
+    public ProcessTable withFreshResults() {
+        return new ProcessTable(this);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int add(String pid, int arrival, int burst, int priority) {
+        if (size == arrivalTime.length) {
+            grow(size * 2);
+        }
+        int row = size++;
+        pidRef[row] = symbol(pid);
+        arrivalTime[row] = arrival;
+        burstTime[row] = burst;
+        this.priority[row] = priority;
+        reset(row);
+        arrivalOrder = null;
+        return row;
+    }
+
+    public String pid(int row) {
+        return symbols.get(pidRef[row]);
+    }
+
+    public boolean containsPid(String pid) {
+        return symbolIds.containsKey(pid);
+    }
+
+    public void reset() {
+        for (int row = 0; row < size; row++) {
+            reset(row);
+        }
+    }
+
+    public void reset(int row) {
+        startTime[row] = -1;
+        completionTime[row] = -1;
+        turnaroundTime[row] = -1;
+        waitingTime[row] = -1;
+        responseTime[row] = -1;
+        remainingTime[row] = burstTime[row];
+    }
+
+    // Rows sorted by arrival time; rows with equal arrival keep their table order.
+    // Traces that are already in arrival order skip the sort.
+    public int[] arrivalOrder() {
+        int[] order = arrivalOrder;
+        if (order == null && isSortedByArrival()) {
+            order = new int[size];
+            for (int row = 0; row < size; row++) {
+                order[row] = row;
+            }
+            arrivalOrder = order;
+        } else if (order == null) {
+            long[] keys = new long[size];
+            for (int row = 0; row < size; row++) {
+                keys[row] = ((long) arrivalTime[row] << 32) | row;
+            }
+            Arrays.sort(keys);
+            order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = (int) keys[i];
+            }
+            arrivalOrder = order;
+        }
+        return order;
+    }
+
+    private boolean isSortedByArrival() {
+        for (int row = 1; row < size; row++) {
+            if (arrivalTime[row] < arrivalTime[row - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void copyResultsTo(List<Process> processes) {
+        for (int row = 0; row < size; row++) {
+            Process p = processes.get(row);
+            p.startTime = startTime[row];
+            p.completionTime = completionTime[row];
+            p.turnaroundTime = turnaroundTime[row];
+            p.waitingTime = waitingTime[row];
+            p.responseTime = responseTime[row];
+            p.remainingTime = remainingTime[row];
+        }
+    }
+
+    private int symbol(String pid) {
+        Integer id = symbolIds.get(pid);
+        if (id == null) {
+            id = symbols.size();
+            symbols.add(pid);
+            symbolIds.put(pid, id);
+        }
+        return id;
+    }
+
+    private void allocateResults(int capacity) {
+        startTime = new int[capacity];
+        completionTime = new int[capacity];
+        turnaroundTime = new int[capacity];
+        waitingTime = new int[capacity];
+        responseTime = new int[capacity];
+        remainingTime = new int[capacity];
+    }
+
+    private void grow(int capacity) {
+        arrivalTime = Arrays.copyOf(arrivalTime, capacity);
+        burstTime = Arrays.copyOf(burstTime, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        pidRef = Arrays.copyOf(pidRef, capacity);
+        startTime = Arrays.copyOf(startTime, capacity);
+        completionTime = Arrays.copyOf(completionTime, capacity);
+        turnaroundTime = Arrays.copyOf(turnaroundTime, capacity);
+        waitingTime = Arrays.copyOf(waitingTime, capacity);
+        responseTime = Arrays.copyOf(responseTime, capacity);
+        remainingTime = Arrays.copyOf(remainingTime, capacity);
+    }
+}
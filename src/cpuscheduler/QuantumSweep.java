@@ -0,0 +1,139 @@
+package cpuscheduler;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Runs Round Robin once per quantum, in parallel, and reports how waiting/response time and
+// context switches change with the quantum. All runs share one workload, sorted once; each run
+// owns only its result columns, and its slices are counted as they are produced rather than
+// kept, so a long sweep over a large trace holds no Gantt entries.
+// Tail figures come from LatencyHistogram, so they are within 1% of the exact percentile.
+public class QuantumSweep {
+    public static class Point {
+        public final int quantum;
+        public final double avgWaiting, avgResponse;
+        public final int p99Waiting, p99Response;
+        public final int maxWaiting, maxResponse;
+        public final long slices;
+        public final long contextSwitches;
+        public final double runtimeMs;
+
+        Point(int quantum, ProcessTable t, long slices, long contextSwitches, double runtimeMs) {
+            this.quantum = quantum;
+            LatencyHistogram waiting = new LatencyHistogram();
+            LatencyHistogram response = new LatencyHistogram();
+            for (int p = 0; p < t.size(); p++) {
+                waiting.record(t.waitingTime[p]);
+                response.record(t.responseTime[p]);
+            }
+            this.avgWaiting = waiting.mean();
+            this.avgResponse = response.mean();
+            this.p99Waiting = (int) waiting.percentile(0.99);
+            this.p99Response = (int) response.percentile(0.99);
+            this.maxWaiting = (int) waiting.max();
+            this.maxResponse = (int) response.max();
+            this.slices = slices;
+            this.contextSwitches = contextSwitches;
+            this.runtimeMs = runtimeMs;
+        }
+    }
+
+    private QuantumSweep() {
+    }
+
+    // Quanta from `first` to `last` inclusive, `step` apart
+    public static int[] range(int first, int last, int step) {
+        if (first <= 0 || last < first || step <= 0) {
+            throw new IllegalArgumentException("Quantum range must be positive and ascending");
+        }
+        int[] quanta = new int[(last - first) / step + 1];
+        for (int i = 0; i < quanta.length; i++) {
+            quanta[i] = first + i * step;
+        }
+        return quanta;
+    }
+
+    // Parses "A..B", "A..B:STEP" or a comma-separated list such as "1,2,4,8"
+    public static int[] parse(String spec) {
+        try {
+            int dots = spec.indexOf("..");
+            if (dots >= 0) {
+                int colon = spec.indexOf(':', dots);
+                int first = Integer.parseInt(spec.substring(0, dots).trim());
+                int last = Integer.parseInt(spec.substring(dots + 2, colon < 0 ? spec.length() : colon).trim());
+                int step = colon < 0 ? 1 : Integer.parseInt(spec.substring(colon + 1).trim());
+                return range(first, last, step);
+            }
+            String[] parts = spec.split(",");
+            int[] quanta = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                quanta[i] = Integer.parseInt(parts[i].trim());
+                if (quanta[i] <= 0) {
+                    throw new IllegalArgumentException("Quanta must be positive");
+                }
+            }
+            return quanta;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid quantum range: " + spec);
+        }
+    }
+
+    // Points come back in the order of `quanta`. The workload itself is only read.
+    public static List<Point> sweep(ProcessTable workload, int[] quanta) {
+        workload.arrivalOrder();
+        return Arrays.stream(quanta).boxed().parallel()
+                .map(quantum -> run(workload.withFreshResults(), quantum))
+                .collect(Collectors.toList());
+    }
+
+    private static Point run(ProcessTable table, int quantum) {
+        SliceCounter counter = new SliceCounter();
+        long startNanos = System.nanoTime();
+        new RoundRobinScheduler().schedule(table, counter, quantum);
+        double runtimeMs = (System.nanoTime() - startNanos) / 1e6;
+        return new Point(quantum, table, counter.slices, counter.switches, runtimeMs);
+    }
+
+    // Gantt list that keeps only the latest slice: add() counts the slice and, when the pid
+    // differs from the previous one, a switch, then replaces the kept slice. size() and get()
+    // report just that slice, so the list is never larger than one entry.
+    static final class SliceCounter extends AbstractList<GanttEntry> {
+        long slices;
+        long switches;     // between different processes; back-to-back slices of one are not
+        private GanttEntry last;
+
+        @Override
+        public boolean add(GanttEntry e) {
+            slices++;
+            if (last != null && !last.pid.equals(e.pid)) {
+                switches++;
+            }
+            last = e;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public GanttEntry get(int index) {
+            if (index != 0 || last == null) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return last;
+        }
+
+        @Override
+        public int size() {
+            return last == null ? 0 : 1;
+        }
+
+        @Override
+        public void clear() {
+            slices = 0;
+            switches = 0;
+            last = null;
+            modCount++;
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package cpuscheduler;
 
 import javax.swing.*;
-import java.awt.*;
-import java.awt.geom.Rectangle2D;
 import java.util.*;
 import java.util.List;
 
@@ -11,7 +9,7 @@ public class RMScheduler extends JFrame {
     static class Task {
         int id, period, wcet;
         int remainingTime;
-        int nextRelease;
+        long nextRelease;
 
         Task(int id, int period, int wcet) {
             this.id = id;
@@ -22,18 +20,7 @@ public class RMScheduler extends JFrame {
         }
     }
 
-    static class Slot {
-        String taskName;
-        int start, end;
-
-        Slot(String taskName, int start, int end) {
-            this.taskName = taskName;
-            this.start = start;
-            this.end = end;
-        }
-    }
-
-    private List<Slot> ganttSlots = new ArrayList<>();
+    private final RealTimeGanttPanel ganttPanel = new RealTimeGanttPanel("Rate Monotonic Scheduling - Gantt Chart");
     private List<Task> tasks = new ArrayList<>();
 
     public RMScheduler() {
@@ -41,7 +28,7 @@ public class RMScheduler extends JFrame {
         setSize(1100, 450);
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         setLocationRelativeTo(null);
-        add(new JScrollPane(new GanttPanel()));
+        add(new JScrollPane(ganttPanel));
     }
 
     public void startRMS() {
@@ -66,7 +53,7 @@ public class RMScheduler extends JFrame {
 
     private void parseTasks(String input) {
         tasks.clear();
-        ganttSlots.clear();
+        ganttPanel.start(0);
 
         String[] taskStrings = input.split(";");
         for (int i = 0; i < taskStrings.length; i++) {
@@ -78,22 +65,93 @@ public class RMScheduler extends JFrame {
     }
 
     private void runRMSimulation() {
+        // The utilization bound is only sufficient; when it fails, response-time analysis decides
+        long[] response = responseTimes(tasks);
         if (!isSchedulable(tasks)) {
-            JOptionPane.showMessageDialog(this, "Utility test Failed do realtime based test", "Warning", JOptionPane.WARNING_MESSAGE);
-            return;
+            for (int i = 0; i < tasks.size(); i++) {
+                if (response[i] > tasks.get(i).period) {
+                    JOptionPane.showMessageDialog(this,
+                            "Tasks are NOT schedulable under RMS!\n" + describeResponseTimes(response),
+                            "Warning", JOptionPane.WARNING_MESSAGE);
+                    return;
+                }
+            }
         }
 
-        int hp = calculateHyperPeriod(tasks);
-        simulateRMS(tasks, hp);
-        repaint();
+        // Only the first MAX_HORIZON units are drawn when the hyperperiod is longer or overflows
+        long hp;
+        String hyperperiod;
+        try {
+            hp = calculateHyperPeriod(tasks);
+            hyperperiod = String.valueOf(hp);
+        } catch (ArithmeticException e) {
+            hp = Long.MAX_VALUE;
+            hyperperiod = "beyond " + Long.MAX_VALUE;
+        }
+        long horizon = Math.min(hp, RealTimeGanttPanel.MAX_HORIZON);
+        ganttPanel.start(tasks.size());
+        simulateRMS(tasks, horizon, ganttPanel);
 
         // Show success message
         JOptionPane.showMessageDialog(this,
-                "RMS Simulation Completed!\nHyperperiod: " + hp + "\nTotal Time Slots: " + ganttSlots.size(),
+                "RMS Simulation Completed!\nHyperperiod: " + hyperperiod
+                        + (horizon < hp ? "\nShowing: 0 to " + horizon : "")
+                        + "\nTotal Time Slots: " + ganttPanel.slotCount()
+                        + "\n\n" + describeResponseTimes(response),
                 "Success",
                 JOptionPane.INFORMATION_MESSAGE);
     }
 
+    private String describeResponseTimes(long[] response) {
+        StringBuilder sb = new StringBuilder("Worst-case response times:\n");
+        for (int i = 0; i < tasks.size(); i++) {
+            Task t = tasks.get(i);
+            sb.append("T").append(t.id).append(": ");
+            if (response[i] > t.period) {
+                sb.append("> ").append(t.period).append(" ms, misses its deadline\n");
+            } else {
+                sb.append(response[i]).append(" ms (period ").append(t.period).append(" ms)\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    // Worst-case response time of each task under RM by exact response-time analysis: iterates
+    // R = C + sum over higher-priority tasks j of ceil(R / T_j) * C_j from R = C to its fixed
+    // point. Priorities are the simulator's: shorter period first, ties to the lower index. The
+    // iteration stops as soon as R passes the task's period, since the deadline is then missed;
+    // such an entry is just some value above the period. The cost depends on the periods
+    // involved, not on the hyperperiod.
+    static long[] responseTimes(List<Task> taskList) {
+        int n = taskList.size();
+        Integer[] byPriority = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            byPriority[i] = i;
+        }
+        Arrays.sort(byPriority, Comparator.comparingInt((Integer i) -> taskList.get(i).period)
+                .thenComparingInt(i -> i));
+
+        long[] response = new long[n];
+        for (int k = 0; k < n; k++) {
+            Task t = taskList.get(byPriority[k]);
+            long r = t.wcet;
+            while (true) {
+                long next = t.wcet;
+                for (int h = 0; h < k; h++) {
+                    Task higher = taskList.get(byPriority[h]);
+                    next += (r + higher.period - 1) / higher.period * higher.wcet;
+                }
+                if (next == r || next > t.period) {
+                    r = next;
+                    break;
+                }
+                r = next;
+            }
+            response[byPriority[k]] = r;
+        }
+        return response;
+    }
+
     // ---------- Utility methods ----------
     private boolean isSchedulable(List<Task> tasks) {  // REMOVED STATIC
         int n = tasks.size();
@@ -102,165 +160,105 @@ public class RMScheduler extends JFrame {
             U += (double) t.wcet / t.period;
         }
         double bound = n * (Math.pow(2, 1.0 / n) - 1);
-
-        // Show utilization in console
-        System.out.printf("RMS Utilization = %.3f, Bound = %.3f\n", U, bound);
         return U <= bound;
     }
 
-    private int calculateHyperPeriod(List<Task> tasks) {  // REMOVED STATIC
-        int hp = tasks.get(0).period;
-        for (int i = 1; i < tasks.size(); i++) {
-            hp = lcm(hp, tasks.get(i).period);
-        }
-        return hp;
+    // Throws ArithmeticException if the hyperperiod does not fit in a long
+    static long calculateHyperPeriod(List<Task> tasks) {
+        return Hyperperiod.of(tasks.stream().mapToInt(t -> t.period).toArray());
     }
 
-    private int gcd(int a, int b) {  // REMOVED STATIC
-        return b == 0 ? a : gcd(b, a % b);
+    // Release times and deadlines run up to one period past `to`, so they must fit in a long
+    private static void checkWindow(List<Task> taskList, long from, long to) {
+        int longest = 0;
+        for (Task t : taskList) {
+            longest = Math.max(longest, t.period);
+        }
+        if (from < 0 || to < from || to > Long.MAX_VALUE - longest) {
+            throw new IllegalArgumentException("Window [" + from + ", " + to + ") must satisfy"
+                    + " 0 <= from <= to <= Long.MAX_VALUE - longest period");
+        }
     }
 
-    private int lcm(int a, int b) {  // REMOVED STATIC
-        return a * b / gcd(a, b);
+    static void simulateRMS(List<Task> taskList, long hp, SlotSink sink) {
+        simulateRMS(taskList, 0, hp, sink);
     }
 
-    private void simulateRMS(List<Task> taskList, int hp) {  // REMOVED STATIC
+    // Streams the schedule over [from, to), with the first slot cut at `from`. All tasks release
+    // together at every multiple of the hyperperiod, and an unfinished job is replaced on
+    // release, so the schedule repeats exactly: the simulation starts at the last multiple at or
+    // before `from` and runs silently up to it, so the cost is O((events in [origin, to)) log n)
+    // with origin within one hyperperiod of `from`. If the hyperperiod overflows, origin is 0 and
+    // every release and slot boundary before `from` is simulated too: the cost then grows with
+    // `from`, not with the width of the window. `to` may be at most Long.MAX_VALUE minus the
+    // longest period, so that the release after it still fits; other windows are rejected.
+    static void simulateRMS(List<Task> taskList, long from, long to, SlotSink sink) {
+        checkWindow(taskList, from, to);
+        long origin = 0;
+        try {
+            origin = from - from % calculateHyperPeriod(taskList);
+        } catch (ArithmeticException e) {
+            // no hyperperiod within range of a long
+        }
+
         // Reset all tasks
         for (Task t : taskList) {
             t.remainingTime = t.wcet;
-            t.nextRelease = 0;
+            t.nextRelease = origin;
         }
 
-        List<Slot> slots = new ArrayList<>();
-
-        for (int time = 0; time < hp; time++) {
-            // Check for new releases
-            for (Task t : taskList) {
-                if (time == t.nextRelease) {
-                    t.remainingTime = t.wcet;
-                }
-            }
+        // Released tasks ordered by period, pending releases ordered by release time.
+        // Ties go to the lower task index, like the old per-tick scan.
+        int n = taskList.size();
+        IndexedMinHeap ready = new IndexedMinHeap(n);
+        IndexedMinHeap releases = new IndexedMinHeap(n);
+        for (int i = 0; i < n; i++) {
+            releases.insert(i, origin);
+        }
 
-            // Find highest priority task (shortest period)
-            Task current = null;
-            for (Task t : taskList) {
+        // Consecutive slots of the same task are merged before they reach the sink
+        SlotSink out = new MergingSlotSink(sink);
+
+        // Nothing changes between a release and a completion, so the clock jumps
+        // from event to event and each slot covers the whole stretch in between.
+        long time = origin;
+        while (time < to) {
+            // Release jobs due now; an unfinished job is replaced by the new one
+            while (releases.peekKey() == time) {
+                int i = releases.poll();
+                Task t = taskList.get(i);
+                t.remainingTime = t.wcet;
                 if (t.remainingTime > 0) {
-                    if (current == null || t.period < current.period)
-                        current = t;
+                    ready.insertOrChange(i, t.period);
+                } else if (ready.contains(i)) {
+                    ready.remove(i);
                 }
+                t.nextRelease = time + t.period;
+                releases.insert(i, t.nextRelease);
             }
 
-            if (current != null) {
-                current.remainingTime--;
-                slots.add(new Slot("T" + current.id, time, time + 1));
-            } else {
-                slots.add(new Slot("IDLE", time, time + 1));
-            }
-
-            // Update next release times
-            for (Task t : taskList) {
-                if (time + 1 == t.nextRelease + t.period) {
-                    t.nextRelease += t.period;
+            long nextRelease = Math.min(releases.peekKey(), to);
+            if (ready.isEmpty()) {
+                if (nextRelease > from) {
+                    out.slot(SlotSink.IDLE, Math.max(time, from), nextRelease);
                 }
+                time = nextRelease;
+                continue;
             }
-        }
-
-        // Update the instance ganttSlots
-        ganttSlots.clear();
-        ganttSlots.addAll(slots);
-    }
-
-    // ---------- GUI ----------
-    class GanttPanel extends JPanel {
-        @Override
-        protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            setBackground(new Color(240, 245, 255));
-
-            Graphics2D g2 = (Graphics2D) g;
-            int y = 60;
-            int barHeight = 30;
 
-            // Map tasks to Y positions
-            Set<String> names = new LinkedHashSet<>();
-            for (Slot s : ganttSlots) names.add(s.taskName);
-            Map<String, Integer> yMap = new LinkedHashMap<>();
-
-            int offset = 0;
-            for (String name : names) {
-                yMap.put(name, y + offset);
-                offset += 50;
+            // Run the highest priority task (shortest period) until the next event
+            Task current = taskList.get(ready.peek());
+            long end = Math.min(nextRelease, time + current.remainingTime);
+            current.remainingTime -= (int) (end - time);
+            if (end > from) {
+                out.slot(current.id, Math.max(time, from), end);
             }
-
-            // Fixed colors for each task
-            Map<String, Color> colorMap = new HashMap<>();
-            colorMap.put("IDLE", Color.LIGHT_GRAY);
-            colorMap.put("T0", new Color(255, 100, 100));    // Red
-            colorMap.put("T1", new Color(100, 100, 255));    // Blue
-            colorMap.put("T2", new Color(100, 200, 100));    // Green
-            colorMap.put("T3", new Color(255, 200, 50));     // Orange
-            colorMap.put("T4", new Color(200, 100, 255));    // Purple
-            colorMap.put("T5", new Color(50, 200, 255));     // Light Blue
-            colorMap.put("T6", new Color(255, 150, 50));     // Orange-Red
-            colorMap.put("T7", new Color(150, 255, 150));    // Light Green
-            colorMap.put("T8", new Color(255, 100, 255));    // Pink
-            colorMap.put("T9", new Color(100, 255, 255));    // Cyan
-
-            for (Slot s : ganttSlots) {
-                // If task color not defined, create a consistent color based on task ID
-                if (!colorMap.containsKey(s.taskName) && s.taskName.startsWith("T")) {
-                    try {
-                        int taskId = Integer.parseInt(s.taskName.substring(1));
-                        // Generate consistent color based on task ID
-                        Color color = new Color(
-                                (taskId * 50) % 200 + 55,
-                                (taskId * 80) % 200 + 55,
-                                (taskId * 120) % 200 + 55
-                        );
-                        colorMap.put(s.taskName, color);
-                    } catch (NumberFormatException e) {
-                        // Fallback color for unknown tasks
-                        colorMap.put(s.taskName, Color.GRAY);
-                    }
-                }
-
-                Color taskColor = colorMap.getOrDefault(s.taskName, Color.GRAY);
-                int yPos = yMap.get(s.taskName);
-                int x1 = s.start * 30 + 60;
-                int width = (s.end - s.start) * 30;
-
-                g2.setColor(taskColor);
-                g2.fill(new Rectangle2D.Double(x1, yPos, width, barHeight));
-                g2.setColor(Color.BLACK);
-                g2.draw(new Rectangle2D.Double(x1, yPos, width, barHeight));
-
-                // Time markers under each slot
-                g2.setFont(new Font("Arial", Font.PLAIN, 10));
-                g2.drawString(String.valueOf(s.start), x1, yPos + barHeight + 15);
+            if (current.remainingTime == 0) {
+                ready.poll();
             }
-
-            // Draw time scale at bottom
-            g2.setFont(new Font("Arial", Font.BOLD, 11));
-            int totalWidth = ganttSlots.size() > 0 ? ganttSlots.get(ganttSlots.size() - 1).end * 30 + 60 : 0;
-            for (int t = 0; t <= totalWidth / 30; t++) {
-                g2.drawString(String.valueOf(t), 60 + t * 30, y + offset + 20);
-            }
-
-            // Task labels
-            g2.setFont(new Font("Arial", Font.BOLD, 14));
-            for (Map.Entry<String, Integer> e : yMap.entrySet()) {
-                g2.drawString(e.getKey(), 10, e.getValue() + 20);
-            }
-
-            // Title
-            g2.setFont(new Font("Arial", Font.BOLD, 18));
-            g2.drawString("Rate Monotonic Scheduling - Gantt Chart", 320, 30);
+            time = end;
         }
 
-        @Override
-        public Dimension getPreferredSize() {
-            int width = ganttSlots.size() * 30 + 200;
-            return new Dimension(width, 400);
-        }
+        out.finish();
     }
-}
\ No newline at end of file
+}
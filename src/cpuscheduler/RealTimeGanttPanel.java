@@ -0,0 +1,191 @@
+package cpuscheduler;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Arrays;
+
+// Gantt chart shared by the RM and EDF windows. It is the SlotSink the simulation writes to:
+// slots arrive in time order and are kept in flat arrays, lanes (in order of first appearance)
+// and colors are fixed while they arrive, and paintComponent binary-searches the first slot
+// inside the clip, so a repaint only touches what is visible. The chart starts at the first
+// slot it receives, so a window far into the schedule is drawn from the left edge.
+class RealTimeGanttPanel extends JPanel implements SlotSink {
+    private static final Font MARKER_FONT = new Font("Arial", Font.PLAIN, 10);
+    private static final Font SCALE_FONT = new Font("Arial", Font.BOLD, 11);
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 14);
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 18);
+    private static final int UNIT = 30;         // pixels per time unit
+    private static final int LEFT = 60;         // x of time 0
+    private static final int TOP = 60;          // y of the first lane
+    private static final int LANE_SPACING = 50;
+    private static final int BAR_HEIGHT = 30;
+
+    // Longest stretch of time the RM and EDF windows draw; longer schedules are cut to it
+    static final long MAX_HORIZON = 10_000;
+
+    // Fixed colors for the first ten tasks
+    private static final Color[] TASK_COLORS = {
+            new Color(255, 100, 100),    // Red
+            new Color(100, 100, 255),    // Blue
+            new Color(100, 200, 100),    // Green
+            new Color(255, 200, 50),     // Orange
+            new Color(200, 100, 255),    // Purple
+            new Color(50, 200, 255),     // Light Blue
+            new Color(255, 150, 50),     // Orange-Red
+            new Color(150, 255, 150),    // Light Green
+            new Color(255, 100, 255),    // Pink
+            new Color(100, 255, 255)     // Cyan
+    };
+
+    private final String title;
+
+    // Per task, indexed by taskId + 1 so that IDLE is entry 0
+    private String[] names = new String[1];
+    private Color[] colors = new Color[1];
+    private int[] laneOf = new int[1];
+    private String[] laneNames = new String[1];
+    private int lanes;
+
+    // Slots in time order
+    private int[] taskIds = new int[1024];
+    private long[] starts = new long[1024];
+    private long[] ends = new long[1024];
+    private int size;
+    private long origin;    // start of the first slot, drawn at x = LEFT
+
+    RealTimeGanttPanel(String title) {
+        this.title = title;
+        setBackground(new Color(240, 245, 255));
+    }
+
+    // Clears the chart for a new simulation of `taskCount` tasks
+    void start(int taskCount) {
+        names = new String[taskCount + 1];
+        colors = new Color[taskCount + 1];
+        names[0] = "IDLE";
+        colors[0] = Color.LIGHT_GRAY;
+        for (int id = 0; id < taskCount; id++) {
+            names[id + 1] = "T" + id;
+            colors[id + 1] = id < TASK_COLORS.length ? TASK_COLORS[id]
+                    : new Color((id * 50) % 200 + 55, (id * 80) % 200 + 55, (id * 120) % 200 + 55);
+        }
+        laneOf = new int[taskCount + 1];
+        Arrays.fill(laneOf, -1);
+        laneNames = new String[taskCount + 1];
+        lanes = 0;
+        size = 0;
+    }
+
+    int slotCount() {
+        return size;
+    }
+
+    @Override
+    public void slot(int taskId, long start, long end) {
+        if (size == starts.length) {
+            taskIds = Arrays.copyOf(taskIds, size * 2);
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        int index = taskId + 1;
+        if (laneOf[index] == -1) {
+            laneOf[index] = lanes;
+            laneNames[lanes++] = names[index];
+        }
+        if (size == 0) {
+            origin = start;
+        }
+        taskIds[size] = index;
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    @Override
+    public void finish() {
+        revalidate();
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Rectangle clip = g.getClipBounds();
+        long fromTime = origin + Math.max(0, (clip.x - LEFT) / UNIT);
+        long toTime = origin + (clip.x + clip.width - LEFT) / UNIT + 1;
+
+        // Slots are contiguous, so ends are sorted too; start at the first slot ending after the clip
+        int first = firstEndingAfter(fromTime);
+        for (int i = first; i < size && starts[i] <= toTime; i++) {
+            int x1 = xOf(starts[i]);
+            int width = xOf(ends[i]) - x1;
+            int yPos = TOP + laneOf[taskIds[i]] * LANE_SPACING;
+
+            g.setColor(colors[taskIds[i]]);
+            g.fillRect(x1, yPos, width, BAR_HEIGHT);
+            g.setColor(Color.BLACK);
+            g.drawRect(x1, yPos, width, BAR_HEIGHT);
+
+            // Time markers under each slot
+            g.setFont(MARKER_FONT);
+            g.drawString(String.valueOf(starts[i]), x1, yPos + BAR_HEIGHT + 15);
+        }
+
+        // Time scale at the bottom, visible part only; long schedules label every 2nd, 5th, 10th... unit
+        g.setColor(Color.BLACK);
+        g.setFont(SCALE_FONT);
+        long horizon = size > 0 ? ends[size - 1] : 0;
+        int scaleY = TOP + lanes * LANE_SPACING + 20;
+        int labelWidth = g.getFontMetrics().stringWidth(String.valueOf(horizon + 2)) + 6;
+        int step = 1;
+        while (step * UNIT < labelWidth) {
+            step = nextStep(step);
+        }
+        for (long t = fromTime - fromTime % step; t <= Math.min(toTime, horizon + 2); t += step) {
+            g.drawString(String.valueOf(t), xOf(t), scaleY);
+        }
+
+        // Task labels
+        g.setFont(LABEL_FONT);
+        for (int lane = 0; lane < lanes; lane++) {
+            g.drawString(laneNames[lane], 10, TOP + lane * LANE_SPACING + 20);
+        }
+
+        g.setFont(TITLE_FONT);
+        g.drawString(title, 320, 30);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        long length = size == 0 ? 0 : ends[size - 1] - origin;
+        int width = (int) Math.min(Integer.MAX_VALUE, length * UNIT + 200);
+        return new Dimension(width, Math.max(400, TOP + lanes * LANE_SPACING + 40));
+    }
+
+    // 1, 2, 5, 10, 20, 50, ...
+    private static int nextStep(int step) {
+        int scale = 1;
+        while (step >= 10) {
+            step /= 10;
+            scale *= 10;
+        }
+        return (step == 1 ? 2 : step == 2 ? 5 : 10) * scale;
+    }
+
+    private int xOf(long time) {
+        return (int) ((time - origin) * UNIT) + LEFT;
+    }
+
+    private int firstEndingAfter(long time) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] <= time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,174 @@
+package cpuscheduler;
+
+// Banker's algorithm as an admission controller: processes request and release resource vectors
+// at run time, and a request is only granted if the state stays safe. All calls are synchronized,
+// so any number of threads can share one manager.
+//
+// The manager keeps the safe sequence of the current state. Granting `req` to process p only
+// lowers the work seen by the processes ahead of p in that sequence (p gives it all back when it
+// finishes), so the request keeps that sequence safe exactly when every process ahead of p has at
+// least `req` to spare. Those margins live in a SlackTree, which answers the check and applies
+// the grant in O(R log P). Only if the check fails does a full SafetyCheck run, which also
+// yields a new sequence. Releases cannot make a safe state unsafe and keep the sequence valid,
+// so they need no check at all; they only raise the margins ahead of the releasing process.
+public class ResourceManager {
+    public enum Decision {
+        GRANTED,    // allocated
+        WAIT,       // more than is available right now
+        UNSAFE      // would leave the system in an unsafe state
+    }
+
+    private final BankersState state;
+    private final SafetyCheck check;
+    private final int[] work;
+    private final int[] slack;
+    private final SlackTree margins;
+    private int[] sequence;         // safe sequence of the current state, or null if unsafe
+    private final int[] position;   // position of each process in `sequence`
+    private int[] candidate;
+
+    private long grants, waits, denials, fastChecks;
+    private final long startNanos = System.nanoTime();
+
+    public ResourceManager(BankersState initial) {
+        state = initial;
+        check = new SafetyCheck(initial.processes, initial.resources);
+        work = new int[initial.resources];
+        slack = new int[initial.processes * initial.resources];
+        margins = new SlackTree(initial.processes, initial.resources);
+        position = new int[initial.processes];
+        candidate = new int[initial.processes];
+        if (check.run(state.processes, state.resources, state.need, state.allocation, state.available, candidate)
+                == state.processes) {
+            adopt();
+        }
+    }
+
+    public synchronized Decision request(int p, int[] req) {
+        int R = state.resources;
+        int base = p * R;
+        for (int j = 0; j < R; j++) {
+            if (req[j] < 0 || req[j] > state.need[base + j]) {
+                throw new IllegalArgumentException("Process " + p + " requested more than its maximum claim");
+            }
+        }
+        for (int j = 0; j < R; j++) {
+            if (req[j] > state.available[j]) {
+                waits++;
+                return Decision.WAIT;
+            }
+        }
+
+        if (sequence != null && margins.prefixAtLeast(position[p], req)) {
+            apply(base, req, 1);
+            margins.addPrefix(position[p], req, -1);
+            fastChecks++;
+            grants++;
+            return Decision.GRANTED;
+        }
+        apply(base, req, 1);
+        if (check.run(state.processes, R, state.need, state.allocation, state.available, candidate)
+                == state.processes) {
+            adopt();
+            grants++;
+            return Decision.GRANTED;
+        }
+        apply(base, req, -1);
+        denials++;
+        return Decision.UNSAFE;
+    }
+
+    public synchronized void release(int p, int[] rel) {
+        int R = state.resources;
+        int base = p * R;
+        for (int j = 0; j < R; j++) {
+            if (rel[j] < 0 || rel[j] > state.allocation[base + j]) {
+                throw new IllegalArgumentException("Process " + p + " released more than it holds");
+            }
+        }
+        apply(base, rel, -1);
+        if (sequence != null) {
+            margins.addPrefix(position[p], rel, 1);
+        }
+    }
+
+    // Gives back everything p holds, e.g. when it finishes
+    public synchronized void releaseAll(int p) {
+        int R = state.resources;
+        int[] held = new int[R];
+        System.arraycopy(state.allocation, p * R, held, 0, R);
+        release(p, held);
+    }
+
+    public synchronized boolean isSafe() {
+        // Only a release can have turned an unsafe state safe since the last check
+        if (sequence == null && check.run(state.processes, state.resources, state.need, state.allocation,
+                state.available, candidate) == state.processes) {
+            adopt();
+        }
+        return sequence != null;
+    }
+
+    // Copy of the current safe sequence, or null if the state is unsafe
+    public synchronized int[] safeSequence() {
+        return sequence == null ? null : sequence.clone();
+    }
+
+    public synchronized int available(int j) {
+        return state.available[j];
+    }
+
+    public synchronized int allocated(int p, int j) {
+        return state.allocation[p * state.resources + j];
+    }
+
+    public synchronized long grants() {
+        return grants;
+    }
+
+    public synchronized long waits() {
+        return waits;
+    }
+
+    public synchronized long denials() {
+        return denials;
+    }
+
+    // Grants decided from the margins of the kept sequence, without a full safety check
+    public synchronized long fastChecks() {
+        return fastChecks;
+    }
+
+    public synchronized double grantsPerSecond() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return seconds > 0 ? grants / seconds : 0;
+    }
+
+    // Moves `amount` from available to p's allocation (sign 1) or back (sign -1)
+    private void apply(int base, int[] amount, int sign) {
+        for (int j = 0; j < state.resources; j++) {
+            int a = sign * amount[j];
+            state.available[j] -= a;
+            state.allocation[base + j] += a;
+            state.need[base + j] -= a;
+        }
+    }
+
+    // Takes the sequence just found by the full check
+    private void adopt() {
+        int[] previous = sequence;
+        sequence = candidate;
+        candidate = previous != null ? previous : new int[state.processes];
+        int R = state.resources;
+        System.arraycopy(state.available, 0, work, 0, R);
+        for (int k = 0; k < sequence.length; k++) {
+            int p = sequence[k];
+            position[p] = k;
+            for (int j = 0; j < R; j++) {
+                slack[k * R + j] = work[j] - state.need[p * R + j];
+                work[j] += state.allocation[p * R + j];
+            }
+        }
+        margins.build(slack, sequence.length);
+    }
+}
@@ -1,61 +1,57 @@
 package cpuscheduler;
 
 import java.util.List;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.Queue;
-import java.util.LinkedList;
 
 public class RoundRobinScheduler implements Scheduler {
     @Override
-    public void schedule(List<Process> processes, List<GanttEntry> ganttEntries, int quantum) {
-        ArrayList<Process> processesCopy = new ArrayList<>(processes);
-        processesCopy.sort(Comparator.comparingInt(p -> p.arrivalTime));
+    public void schedule(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
+        int[] order = t.arrivalOrder();
+        int n = order.length;
 
-        Queue<Process> readyQueue = new LinkedList<>();
+        IntRingBuffer readyQueue = new IntRingBuffer();
         int currentTime = 0;
         int index = 0;
 
-        while (!readyQueue.isEmpty() || index < processesCopy.size()) {
-            while (index < processesCopy.size() && processesCopy.get(index).arrivalTime <= currentTime) {
-                readyQueue.add(processesCopy.get(index));
+        while (!readyQueue.isEmpty() || index < n) {
+            while (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                readyQueue.addLast(order[index]);
                 index++;
             }
 
             if (readyQueue.isEmpty()) {
-                if (index < processesCopy.size()) {
-                    currentTime = processesCopy.get(index).arrivalTime;
-                    readyQueue.add(processesCopy.get(index));
+                if (index < n) {
+                    currentTime = t.arrivalTime[order[index]];
+                    readyQueue.addLast(order[index]);
                     index++;
                 }
                 continue;
             }
 
-            Process current = readyQueue.poll();
-            if (current.startTime == -1) {
-                current.startTime = currentTime;
+            int current = readyQueue.pollFirst();
+            if (t.startTime[current] == -1) {
+                t.startTime[current] = currentTime;
             }
 
             int sliceStart = currentTime;
-            int executionTime = Math.min(quantum, current.remainingTime);
-            current.remainingTime -= executionTime;
+            int executionTime = Math.min(quantum, t.remainingTime[current]);
+            t.remainingTime[current] -= executionTime;
             currentTime += executionTime;
 
-            while (index < processesCopy.size() && processesCopy.get(index).arrivalTime <= currentTime) {
-                readyQueue.add(processesCopy.get(index));
+            while (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                readyQueue.addLast(order[index]);
                 index++;
             }
 
-            ganttEntries.add(new GanttEntry(current.pid, sliceStart, currentTime));
+            ganttEntries.add(new GanttEntry(t.pid(current), sliceStart, currentTime));
 
-            if (current.remainingTime > 0) {
-                readyQueue.add(current);
+            if (t.remainingTime[current] > 0) {
+                readyQueue.addLast(current);
             } else {
-                current.completionTime = currentTime;
-                current.turnaroundTime = current.completionTime - current.arrivalTime;
-                current.waitingTime = current.turnaroundTime - current.burstTime;
-                current.responseTime = current.startTime - current.arrivalTime;
+                t.completionTime[current] = currentTime;
+                t.turnaroundTime[current] = t.completionTime[current] - t.arrivalTime[current];
+                t.waitingTime[current] = t.turnaroundTime[current] - t.burstTime[current];
+                t.responseTime[current] = t.startTime[current] - t.arrivalTime[current];
             }
         }
     }
-}
\ No newline at end of file
+}
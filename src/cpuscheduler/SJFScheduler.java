@@ -1,54 +1,47 @@
 package cpuscheduler;
 
 import java.util.List;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.PriorityQueue;
 
 public class SJFScheduler implements Scheduler {
     @Override
-    public void schedule(List<Process> processes, List<GanttEntry> ganttEntries, int quantum) {
-        ArrayList<Process> processesCopy = new ArrayList<>(processes);
-        processesCopy.sort(Comparator.comparingInt(p -> p.arrivalTime));
+    public void schedule(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
+        int[] order = t.arrivalOrder();
 
-        PriorityQueue<Process> readyQueue = new PriorityQueue<>((p1, p2) -> {
-            if (p1.burstTime != p2.burstTime) {
-                return Integer.compare(p1.burstTime, p2.burstTime);
-            }
-            return Integer.compare(p1.arrivalTime, p2.arrivalTime);
-        });
+        // Ready processes keyed on burst time. Ids are positions in arrival order,
+        // so equal bursts go to the earlier arrival.
+        IndexedMinHeap readyQueue = new IndexedMinHeap(order.length);
 
         int currentTime = 0;
         int completed = 0;
         int index = 0;
-        int n = processesCopy.size();
+        int n = order.length;
 
         while (completed < n) {
-            while (index < n && processesCopy.get(index).arrivalTime <= currentTime) {
-                readyQueue.offer(processesCopy.get(index));
+            while (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                readyQueue.insert(index, t.burstTime[order[index]]);
                 index++;
             }
 
             if (readyQueue.isEmpty()) {
                 if (index < n) {
-                    currentTime = processesCopy.get(index).arrivalTime;
+                    currentTime = t.arrivalTime[order[index]];
                 } else {
                     break;
                 }
             } else {
-                Process current = readyQueue.poll();
+                int current = order[readyQueue.poll()];
                 int sliceStart = currentTime;
-                if (current.startTime == -1) {
-                    current.startTime = currentTime;
+                if (t.startTime[current] == -1) {
+                    t.startTime[current] = currentTime;
                 }
-                current.completionTime = currentTime + current.remainingTime;
-                ganttEntries.add(new GanttEntry(current.pid, sliceStart, current.completionTime));
-                current.turnaroundTime = current.completionTime - current.arrivalTime;
-                current.waitingTime = current.turnaroundTime - current.burstTime;
-                current.responseTime = current.startTime - current.arrivalTime;
-                currentTime = current.completionTime;
+                t.completionTime[current] = currentTime + t.remainingTime[current];
+                ganttEntries.add(new GanttEntry(t.pid(current), sliceStart, t.completionTime[current]));
+                t.turnaroundTime[current] = t.completionTime[current] - t.arrivalTime[current];
+                t.waitingTime[current] = t.turnaroundTime[current] - t.burstTime[current];
+                t.responseTime[current] = t.startTime[current] - t.arrivalTime[current];
+                currentTime = t.completionTime[current];
                 completed++;
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,234 @@
+package cpuscheduler;
+
+import java.util.List;
+
+// Multi-core scheduler: N CPUs, each running round robin over its own run queue.
+// - An arriving process goes to the least loaded CPU (queued + running), or to its pinned CPU.
+// - A CPU that runs out of work steals the newest unpinned process from the busiest queue.
+// - A quantum <= 0 runs every process to completion once dispatched.
+// Gantt entries carry the CPU they ran on. The clock jumps between arrivals and slice ends,
+// and every queue/CPU choice is a heap operation, so cost is O((n + slices) log N).
+public class SMPScheduler implements Scheduler {
+    public static final int DEFAULT_CPUS = 4;
+
+    private final int cpus;
+    private final int[] affinity;
+
+    public SMPScheduler() {
+        this(DEFAULT_CPUS);
+    }
+
+    public SMPScheduler(int cpus) {
+        this(cpus, null);
+    }
+
+    // affinity[row] is the CPU a table row is pinned to, or -1 to let it run anywhere
+    public SMPScheduler(int cpus, int[] affinity) {
+        if (cpus <= 0) {
+            throw new IllegalArgumentException("CPU count must be positive");
+        }
+        this.cpus = cpus;
+        this.affinity = affinity;
+    }
+
+    public int getCpus() {
+        return cpus;
+    }
+
+    @Override
+    public void schedule(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
+        new Run(t, ganttEntries, quantum).execute();
+    }
+
+    private final class Run {
+        final ProcessTable t;
+        final List<GanttEntry> ganttEntries;
+        final int slice;
+
+        // Per-CPU state. Pinned and stealable processes queue separately; enqueue stamps
+        // keep them in FIFO order relative to each other.
+        final IntRingBuffer[] pinnedQueue = new IntRingBuffer[cpus];
+        final IntRingBuffer[] sharedQueue = new IntRingBuffer[cpus];
+        final int[] running = new int[cpus];
+        final int[] sliceStart = new int[cpus];
+        final long[] stamp;
+        long nextStamp;
+
+        final IndexedMinHeap sliceEnds = new IndexedMinHeap(cpus);  // busy CPUs by slice end
+        final IndexedMinHeap load = new IndexedMinHeap(cpus);       // queued + running
+        final IndexedMinHeap stealable = new IndexedMinHeap(cpus);  // -(unpinned queued)
+        final IndexedMinHeap idle = new IndexedMinHeap(cpus);
+        final IntRingBuffer woken = new IntRingBuffer();
+        final boolean[] isWoken = new boolean[cpus];
+        final IntRingBuffer preempted = new IntRingBuffer();
+
+        Run(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
+            this.t = t;
+            this.ganttEntries = ganttEntries;
+            this.slice = quantum > 0 ? quantum : Integer.MAX_VALUE;
+            this.stamp = new long[t.size()];
+            for (int cpu = 0; cpu < cpus; cpu++) {
+                pinnedQueue[cpu] = new IntRingBuffer();
+                sharedQueue[cpu] = new IntRingBuffer();
+                running[cpu] = -1;
+                load.insert(cpu, 0);
+                stealable.insert(cpu, 0);
+                idle.insert(cpu, 0);
+            }
+        }
+
+        void execute() {
+            int[] order = t.arrivalOrder();
+            int n = order.length;
+            int index = 0;
+            int completed = 0;
+
+            while (completed < n) {
+                long next = index < n ? t.arrivalTime[order[index]] : Long.MAX_VALUE;
+                if (!sliceEnds.isEmpty()) {
+                    next = Math.min(next, sliceEnds.peekKey());
+                }
+                int now = (int) next;
+
+                // Slices ending now; unfinished processes go back to their CPU after the arrivals
+                while (!sliceEnds.isEmpty() && sliceEnds.peekKey() == now) {
+                    int cpu = sliceEnds.poll();
+                    int p = running[cpu];
+                    running[cpu] = -1;
+                    ganttEntries.add(new GanttEntry(t.pid(p), sliceStart[cpu], now, cpu));
+                    t.remainingTime[p] -= now - sliceStart[cpu];
+                    addLoad(cpu, -1);
+                    if (t.remainingTime[p] == 0) {
+                        t.completionTime[p] = now;
+                        t.turnaroundTime[p] = t.completionTime[p] - t.arrivalTime[p];
+                        t.waitingTime[p] = t.turnaroundTime[p] - t.burstTime[p];
+                        t.responseTime[p] = t.startTime[p] - t.arrivalTime[p];
+                        completed++;
+                    } else {
+                        preempted.addLast(cpu);
+                        preempted.addLast(p);
+                    }
+                    wake(cpu);
+                }
+
+                while (index < n && t.arrivalTime[order[index]] <= now) {
+                    int p = order[index++];
+                    int cpu = pinnedCpu(p);
+                    enqueue(cpu >= 0 ? cpu : load.peek(), p);
+                }
+
+                while (!preempted.isEmpty()) {
+                    int cpu = preempted.pollFirst();
+                    enqueue(cpu, preempted.pollFirst());
+                }
+
+                dispatchIdleCpus(now);
+            }
+        }
+
+        void dispatchIdleCpus(int now) {
+            while (!woken.isEmpty()) {
+                int cpu = woken.pollFirst();
+                isWoken[cpu] = false;
+                if (running[cpu] != -1) {
+                    continue;
+                }
+                int p = pollOwn(cpu);
+                if (p == -1) {
+                    p = steal();
+                    if (p != -1) {
+                        addLoad(cpu, 1);
+                    }
+                }
+                if (p != -1) {
+                    dispatch(cpu, p, now);
+                } else if (!idle.contains(cpu)) {
+                    idle.insert(cpu, 0);
+                }
+            }
+
+            // Idle CPUs take work from the busiest queues while any is stealable
+            while (!idle.isEmpty() && stealable.peekKey() < 0) {
+                int cpu = idle.peek();
+                int p = steal();
+                addLoad(cpu, 1);
+                dispatch(cpu, p, now);
+            }
+        }
+
+        void dispatch(int cpu, int p, int now) {
+            if (idle.contains(cpu)) {
+                idle.remove(cpu);
+            }
+            running[cpu] = p;
+            sliceStart[cpu] = now;
+            if (t.startTime[p] == -1) {
+                t.startTime[p] = now;
+            }
+            sliceEnds.insert(cpu, (long) now + Math.min(slice, t.remainingTime[p]));
+        }
+
+        void enqueue(int cpu, int p) {
+            stamp[p] = nextStamp++;
+            if (pinnedCpu(p) >= 0) {
+                pinnedQueue[cpu].addLast(p);
+            } else {
+                sharedQueue[cpu].addLast(p);
+                stealable.changeKey(cpu, -sharedQueue[cpu].size());
+            }
+            addLoad(cpu, 1);
+            if (running[cpu] == -1) {
+                wake(cpu);
+            }
+        }
+
+        // Oldest queued process of this CPU, or -1
+        int pollOwn(int cpu) {
+            IntRingBuffer pinned = pinnedQueue[cpu];
+            IntRingBuffer shared = sharedQueue[cpu];
+            if (pinned.isEmpty() && shared.isEmpty()) {
+                return -1;
+            }
+            if (shared.isEmpty() || (!pinned.isEmpty() && stamp[pinned.peekFirst()] < stamp[shared.peekFirst()])) {
+                return pinned.pollFirst();
+            }
+            int p = shared.pollFirst();
+            stealable.changeKey(cpu, -shared.size());
+            return p;
+        }
+
+        // Newest unpinned process from the CPU with the most of them, or -1
+        int steal() {
+            if (stealable.peekKey() == 0) {
+                return -1;
+            }
+            int victim = stealable.peek();
+            int p = sharedQueue[victim].pollLast();
+            stealable.changeKey(victim, -sharedQueue[victim].size());
+            addLoad(victim, -1);
+            return p;
+        }
+
+        void addLoad(int cpu, int delta) {
+            load.changeKey(cpu, load.keyOf(cpu) + delta);
+        }
+
+        void wake(int cpu) {
+            if (!isWoken[cpu]) {
+                isWoken[cpu] = true;
+                woken.addLast(cpu);
+            }
+        }
+
+        int pinnedCpu(int p) {
+            if (affinity == null || affinity[p] < 0) {
+                return -1;
+            }
+            if (affinity[p] >= cpus) {
+                throw new IllegalArgumentException("Process " + t.pid(p) + " is pinned to CPU "
+                        + affinity[p] + " but only " + cpus + " CPUs exist");
+            }
+            return affinity[p];
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package cpuscheduler;
+
+// Worklist form of the Banker's safety algorithm. Instead of rescanning every unfinished process
+// after each completion, every process waits on the first resource it cannot get yet, in a
+// per-resource min-heap keyed on its need of that resource. When a finishing process releases
+// resource j, only heap j is drained, and only down to the processes that now fit; each of those
+// resumes its scan at j + 1, since work never shrinks and earlier resources stay satisfied.
+// Processes are first visited in index order and every process that can finish does so at once,
+// so a state whose safe sequence is already in index order never touches a heap.
+// A check costs O(P * R + P * R' * log P), where R' is how often a process gets blocked again,
+// against O(P^2 * R) for the rescanning loop.
+//
+// The heaps are leftist heaps threaded through per-process arrays, so one instance keeps all its
+// scratch space and can be reused for any number of checks of up to `processes` x `resources`.
+public class SafetyCheck {
+    private final int[] work;
+    private final int[] roots;
+    private final int[] blockedOn;
+    private final int[] left, right, rank, heapKey;
+    private final int[] ready;
+    private int[] need, allocation;
+    private int[] order;
+    private int resources;
+    private int head, tail, finished;
+
+    public SafetyCheck(int processes, int resources) {
+        work = new int[resources];
+        roots = new int[resources];
+        blockedOn = new int[processes];
+        left = new int[processes];
+        right = new int[processes];
+        rank = new int[processes];
+        heapKey = new int[processes];
+        ready = new int[processes];
+    }
+
+    // Safe sequence for the state, or null if it is unsafe
+    public int[] safeSequence(BankersState s) {
+        int[] sequence = new int[s.processes];
+        int finished = run(s.processes, s.resources, s.need, s.allocation, s.available, sequence);
+        return finished == s.processes ? sequence : null;
+    }
+
+    public boolean isSafe(BankersState s) {
+        return run(s.processes, s.resources, s.need, s.allocation, s.available, null) == s.processes;
+    }
+
+    // Finishes every process whose demand (P x R, row-major) can be met from `available` plus
+    // what finished processes hand back, and returns how many finished. Finished processes are
+    // written to `order` when it is not null.
+    public int run(int P, int R, int[] demand, int[] allocation, int[] available, int[] order) {
+        this.need = demand;
+        this.allocation = allocation;
+        this.order = order;
+        this.resources = R;
+        System.arraycopy(available, 0, work, 0, R);
+        for (int j = 0; j < R; j++) {
+            roots[j] = -1;
+        }
+        head = 0;
+        tail = 0;
+        finished = 0;
+
+        for (int p = 0; p < P; p++) {
+            blockedOn[p] = 0;
+            if (advance(p)) {
+                ready[tail++] = p;
+            }
+            while (head < tail) {
+                finish(ready[head++]);
+            }
+        }
+        this.need = null;
+        this.allocation = null;
+        this.order = null;
+        return finished;
+    }
+
+    // p hands back its allocation; processes blocked on a resource that grew are re-checked
+    private void finish(int p) {
+        if (order != null) {
+            order[finished] = p;
+        }
+        finished++;
+
+        int base = p * resources;
+        for (int j = 0; j < resources; j++) {
+            work[j] += allocation[base + j];
+        }
+        for (int j = 0; j < resources; j++) {
+            if (allocation[base + j] == 0) {
+                continue;
+            }
+            while (roots[j] != -1 && heapKey[roots[j]] <= work[j]) {
+                int q = roots[j];
+                roots[j] = merge(left[q], right[q]);
+                blockedOn[q] = j + 1;
+                if (advance(q)) {
+                    ready[tail++] = q;
+                }
+            }
+        }
+    }
+
+    // Moves p past every resource it can get; true if that is all of them, otherwise p is
+    // queued on the resource that blocks it
+    private boolean advance(int p) {
+        int base = p * resources;
+        int j = blockedOn[p];
+        while (j < resources && need[base + j] <= work[j]) {
+            j++;
+        }
+        if (j == resources) {
+            return true;
+        }
+        blockedOn[p] = j;
+        heapKey[p] = need[base + j];
+        left[p] = -1;
+        right[p] = -1;
+        rank[p] = 1;
+        roots[j] = merge(roots[j], p);
+        return false;
+    }
+
+    // Leftist heap merge; recursion only follows right spines, which are O(log n) long
+    private int merge(int a, int b) {
+        if (a == -1) {
+            return b;
+        }
+        if (b == -1) {
+            return a;
+        }
+        if (heapKey[b] < heapKey[a]) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        right[a] = merge(right[a], b);
+        if (rankOf(left[a]) < rankOf(right[a])) {
+            int t = left[a];
+            left[a] = right[a];
+            right[a] = t;
+        }
+        rank[a] = rankOf(right[a]) + 1;
+        return a;
+    }
+
+    private int rankOf(int node) {
+        return node == -1 ? 0 : rank[node];
+    }
+}
@@ -0,0 +1,71 @@
+package cpuscheduler;
+
+import java.util.List;
+
+// Aggregate figures for one scheduler run, computed from the finished table and Gantt entries.
+// Waiting, turnaround and response times also go into constant-memory histograms for
+// min/max/mean/std and tail percentiles. They are recorded after the run, one table row at a
+// time; the table holds primitive columns, so no Process objects are kept for this.
+public class ScheduleMetrics {
+    public int processCount;
+    public double avgWaiting, avgTurnaround, avgResponse;
+    public int maxWaiting, maxTurnaround, maxResponse;
+    public final LatencyHistogram waiting = new LatencyHistogram();
+    public final LatencyHistogram turnaround = new LatencyHistogram();
+    public final LatencyHistogram response = new LatencyHistogram();
+    public int makespan;            // first arrival to last completion
+    public double throughput;       // completed processes per time unit
+    public double cpuUtilization;   // busy time / (makespan * CPUs)
+    public int contextSwitches;     // switches between different processes on the same CPU
+
+    public static ScheduleMetrics of(ProcessTable t, List<GanttEntry> ganttEntries) {
+        return of(t, ganttEntries, 1);
+    }
+
+    // cpus is the number of CPUs the schedule had, whether or not each one got work
+    public static ScheduleMetrics of(ProcessTable t, List<GanttEntry> ganttEntries, int cpus) {
+        if (cpus <= 0) {
+            throw new IllegalArgumentException("CPU count must be positive");
+        }
+        ScheduleMetrics m = new ScheduleMetrics();
+        m.processCount = t.size();
+        if (m.processCount == 0) {
+            return m;
+        }
+
+        int firstArrival = Integer.MAX_VALUE, lastCompletion = 0;
+        for (int p = 0; p < m.processCount; p++) {
+            m.waiting.record(t.waitingTime[p]);
+            m.turnaround.record(t.turnaroundTime[p]);
+            m.response.record(t.responseTime[p]);
+            firstArrival = Math.min(firstArrival, t.arrivalTime[p]);
+            lastCompletion = Math.max(lastCompletion, t.completionTime[p]);
+        }
+        m.avgWaiting = m.waiting.mean();
+        m.avgTurnaround = m.turnaround.mean();
+        m.avgResponse = m.response.mean();
+        m.maxWaiting = (int) m.waiting.max();
+        m.maxTurnaround = (int) m.turnaround.max();
+        m.maxResponse = (int) m.response.max();
+        m.makespan = lastCompletion - firstArrival;
+
+        // Multi-core schedules: switches are counted per CPU lane and utilization is per CPU
+        String[] lastPid = new String[cpus];
+        long busy = 0;
+        for (GanttEntry e : ganttEntries) {
+            if (e.cpu < 0 || e.cpu >= cpus) {
+                throw new IllegalArgumentException("Gantt entry on CPU " + e.cpu + " of " + cpus);
+            }
+            busy += e.end - e.start;
+            if (lastPid[e.cpu] != null && !lastPid[e.cpu].equals(e.pid)) {
+                m.contextSwitches++;
+            }
+            lastPid[e.cpu] = e.pid;
+        }
+        if (m.makespan > 0) {
+            m.throughput = (double) m.processCount / m.makespan;
+            m.cpuUtilization = (double) busy / ((long) m.makespan * cpus);
+        }
+        return m;
+    }
+}
@@ -0,0 +1,91 @@
+package cpuscheduler;
+
+import javax.swing.table.AbstractTableModel;
+
+// Output table that reads straight from a scheduled ProcessTable's result columns, followed by
+// summary rows (average, spread and tail percentiles of waiting/turnaround/response time).
+// Only the rows on screen are ever boxed.
+class ScheduleResultTableModel extends AbstractTableModel {
+    private static final String[] COLUMNS = {
+            "Process", "Arrival", "Burst", "Start", "Completion", "Waiting", "Turnaround", "Response"
+    };
+
+    private static final String[] SUMMARY_ROWS = {"Average", "Std Dev", "Min", "P50", "P90", "P99", "P99.9", "Max"};
+
+    private ProcessTable table;
+    private final String[][] summary = new String[SUMMARY_ROWS.length][3];
+
+    void setResult(ProcessTable result) {
+        int oldRows = getRowCount();
+        table = result;
+        LatencyHistogram[] columns = {new LatencyHistogram(), new LatencyHistogram(), new LatencyHistogram()};
+        for (int p = 0; p < result.size(); p++) {
+            columns[0].record(result.waitingTime[p]);
+            columns[1].record(result.turnaroundTime[p]);
+            columns[2].record(result.responseTime[p]);
+        }
+        for (int c = 0; c < 3; c++) {
+            LatencyHistogram h = columns[c];
+            summary[0][c] = String.format("%.2f", h.mean());
+            summary[1][c] = String.format("%.2f", h.stdDev());
+            summary[2][c] = String.valueOf(h.min());
+            summary[3][c] = String.valueOf(h.percentile(0.5));
+            summary[4][c] = String.valueOf(h.percentile(0.9));
+            summary[5][c] = String.valueOf(h.percentile(0.99));
+            summary[6][c] = String.valueOf(h.percentile(0.999));
+            summary[7][c] = String.valueOf(h.max());
+        }
+
+        // Same workload as before: every row changed in place, nothing was inserted
+        int newRows = getRowCount();
+        if (oldRows == newRows) {
+            fireTableRowsUpdated(0, newRows - 1);
+        } else {
+            fireTableDataChanged();
+        }
+    }
+
+    void clear() {
+        int oldRows = getRowCount();
+        table = null;
+        if (oldRows > 0) {
+            fireTableRowsDeleted(0, oldRows - 1);
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return table == null ? 0 : table.size() + SUMMARY_ROWS.length;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (row >= table.size()) {
+            int summaryRow = row - table.size();
+            if (column == 0) {
+                return SUMMARY_ROWS[summaryRow];
+            }
+            return column >= 5 ? summary[summaryRow][column - 5] : "";
+        }
+        switch (column) {
+            case 0: return table.pid(row);
+            case 1: return table.arrivalTime[row];
+            case 2: return table.burstTime[row];
+            case 3: return table.startTime[row];
+            case 4: return table.completionTime[row];
+            case 5: return table.waitingTime[row];
+            case 6: return table.turnaroundTime[row];
+            default: return table.responseTime[row];
+        }
+    }
+}
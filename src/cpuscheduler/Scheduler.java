@@ -1,8 +1,14 @@
 package cpuscheduler;
 
 import java.util.List;
-import java.util.ArrayList;
 
 public interface Scheduler {
-    void schedule(List<Process> processes, List<GanttEntry> ganttEntries, int quantum);
-}
\ No newline at end of file
+    void schedule(ProcessTable table, List<GanttEntry> ganttEntries, int quantum);
+
+    // Runs on a ProcessTable built from the list and copies the results back into the Process objects
+    default void schedule(List<Process> processes, List<GanttEntry> ganttEntries, int quantum) {
+        ProcessTable table = ProcessTable.from(processes);
+        schedule(table, ganttEntries, quantum);
+        table.copyResultsTo(processes);
+    }
+}
@@ -0,0 +1,55 @@
+package cpuscheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Runs several schedulers on the same workload at once. Every run gets its own result columns
+// (ProcessTable.withFreshResults), so the runs share nothing mutable and need no reset in between.
+public class SchedulerComparison {
+    public static class Result {
+        public final String algorithm;
+        public final ProcessTable table;
+        public final List<GanttEntry> ganttEntries;
+        public final ScheduleMetrics metrics;
+        public final double runtimeMs;
+
+        Result(String algorithm, ProcessTable table, List<GanttEntry> ganttEntries, int cpus, double runtimeMs) {
+            this.algorithm = algorithm;
+            this.table = table;
+            this.ganttEntries = ganttEntries;
+            this.metrics = ScheduleMetrics.of(table, ganttEntries, cpus);
+            this.runtimeMs = runtimeMs;
+        }
+    }
+
+    private SchedulerComparison() {
+    }
+
+    // Results come back in the order of `algorithms`. The workload itself is only read.
+    public static List<Result> compare(ProcessTable workload, List<String> algorithms, int quantum) {
+        return compare(workload, algorithms, quantum, SMPScheduler.DEFAULT_CPUS);
+    }
+
+    public static List<Result> compare(ProcessTable workload, List<String> algorithms, int quantum, int cpus) {
+        // Sort once up front; every copy shares the arrival order
+        workload.arrivalOrder();
+
+        // The parallel stream runs on the common fork-join pool, and the calling thread
+        // takes part too, so all cores are busy.
+        return new ArrayList<>(algorithms).parallelStream()
+                .map(algorithm -> run(workload.withFreshResults(), algorithm, quantum, cpus))
+                .collect(Collectors.toList());
+    }
+
+    public static Result run(ProcessTable table, String algorithm, int quantum, int cpus) {
+        Scheduler scheduler = Schedulers.create(algorithm, cpus);
+        List<GanttEntry> ganttEntries = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        scheduler.schedule(table, ganttEntries, quantum);
+        double runtimeMs = (System.nanoTime() - startNanos) / 1e6;
+        // Utilization is over every CPU the scheduler had, including idle ones
+        int lanes = scheduler instanceof SMPScheduler ? ((SMPScheduler) scheduler).getCpus() : 1;
+        return new Result(Schedulers.canonicalName(algorithm), table, ganttEntries, lanes, runtimeMs);
+    }
+}
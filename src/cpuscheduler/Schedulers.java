@@ -0,0 +1,87 @@
+package cpuscheduler;
+
+import java.util.Locale;
+
+// Maps algorithm names to Scheduler instances for the simulator window and the batch runner.
+public final class Schedulers {
+    public static final String[] NAMES = {
+            "FCFS", "SJF", "SRTF", "Round Robin", "Priority Preemptive", "Priority Non-Preemptive", "MLFQ", "CFS", "Lottery", "Stride"
+    };
+
+    // Multi-core policy; not part of NAMES because its results are not comparable to a single CPU
+    public static final String SMP = "SMP";
+
+    private Schedulers() {
+    }
+
+    // Display name for the names above and short forms such as "rr", "pp" or "priority-non-preemptive"
+    public static String canonicalName(String name) {
+        switch (name.replaceAll("[^A-Za-z]", "").toUpperCase(Locale.ROOT)) {
+            case "FCFS":
+                return "FCFS";
+            case "SJF":
+                return "SJF";
+            case "SRTF":
+                return "SRTF";
+            case "RR":
+            case "ROUNDROBIN":
+                return "Round Robin";
+            case "PP":
+            case "PRIORITYPREEMPTIVE":
+                return "Priority Preemptive";
+            case "PNP":
+            case "PRIORITYNONPREEMPTIVE":
+                return "Priority Non-Preemptive";
+            case "MLFQ":
+                return "MLFQ";
+            case "CFS":
+                return "CFS";
+            case "LOTTERY":
+                return "Lottery";
+            case "STRIDE":
+                return "Stride";
+            case "SMP":
+                return SMP;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + name);
+        }
+    }
+
+    public static Scheduler create(String name) {
+        return create(name, SMPScheduler.DEFAULT_CPUS);
+    }
+
+    // cpus is only used by the SMP scheduler
+    public static Scheduler create(String name, int cpus) {
+        switch (canonicalName(name)) {
+            case "FCFS":
+                return new FCFScheduler();
+            case "SJF":
+                return new SJFScheduler();
+            case "SRTF":
+                return new SRTFScheduler();
+            case "Round Robin":
+                return new RoundRobinScheduler();
+            case "Priority Preemptive":
+                return new PriorityPreemptiveScheduler();
+            case "MLFQ":
+                return new MLFQScheduler();
+            case "CFS":
+                return new CFSScheduler();
+            case "Lottery":
+                return new LotteryScheduler();
+            case "Stride":
+                return new StrideScheduler();
+            case SMP:
+                return new SMPScheduler(cpus);
+            default:
+                return new PriorityNonPreemptiveScheduler();
+        }
+    }
+
+    public static boolean usesQuantum(String name) {
+        String canonical = canonicalName(name);
+        return "Round Robin".equals(canonical) || "MLFQ".equals(canonical) || "Lottery".equals(canonical)
+                || "Stride".equals(canonical) || SMP.equals(canonical);
+    }
+}
@@ -0,0 +1,110 @@
+package cpuscheduler;
+
+import java.util.Arrays;
+
+// Segment tree over the positions of a safe sequence holding, for every resource, how much the
+// work available before that position exceeds the process's need ("slack"). Supports the two
+// operations the ResourceManager needs in O(R log n): the minimum slack over a prefix of the
+// sequence, and adding a vector to every position of a prefix. Nodes store R values side by
+// side, and range adds stay at the covering nodes instead of being pushed down.
+final class SlackTree {
+    private final int size;      // leaves, a power of two
+    private final int resources;
+    private final int[] min;     // [node * resources + j]: subtree minimum including this node's add
+    private final int[] add;     // [node * resources + j]: added to the whole subtree
+    private final int[][] scratch;  // [d]: sum of the adds above a node at depth d
+    private final int[] result;
+
+    SlackTree(int n, int resources) {
+        int s = 1;
+        while (s < Math.max(n, 1)) {
+            s <<= 1;
+        }
+        size = s;
+        this.resources = resources;
+        min = new int[2 * size * resources];
+        add = new int[2 * size * resources];
+        int depth = Integer.numberOfTrailingZeros(size) + 2;
+        scratch = new int[depth][resources];
+        result = new int[resources];
+    }
+
+    // slack is n x R, row-major by sequence position
+    void build(int[] slack, int n) {
+        Arrays.fill(add, 0);
+        Arrays.fill(min, size * resources, 2 * size * resources, Integer.MAX_VALUE);
+        System.arraycopy(slack, 0, min, size * resources, n * resources);
+        for (int node = size - 1; node >= 1; node--) {
+            pull(node);
+        }
+    }
+
+    // True if every position before `end` has at least amount[j] slack on every resource j
+    boolean prefixAtLeast(int end, int[] amount) {
+        if (end <= 0) {
+            return true;
+        }
+        Arrays.fill(result, Integer.MAX_VALUE);
+        queryPrefix(1, 0, size, end, 0);
+        for (int j = 0; j < resources; j++) {
+            if (result[j] < amount[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Adds sign * amount to the slack of every position before `end`
+    void addPrefix(int end, int[] amount, int sign) {
+        if (end > 0) {
+            addPrefix(1, 0, size, end, amount, sign);
+        }
+    }
+
+    private void addPrefix(int node, int lo, int hi, int end, int[] amount, int sign) {
+        int base = node * resources;
+        if (hi <= end) {
+            for (int j = 0; j < resources; j++) {
+                add[base + j] += sign * amount[j];
+                min[base + j] += sign * amount[j];
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        addPrefix(2 * node, lo, mid, end, amount, sign);
+        if (end > mid) {
+            addPrefix(2 * node + 1, mid, hi, end, amount, sign);
+        }
+        pull(node);
+    }
+
+    // Folds the minimum over [lo, hi) ∩ [0, end), plus the adds above the node, into result
+    private void queryPrefix(int node, int lo, int hi, int end, int depth) {
+        int base = node * resources;
+        int[] above = scratch[depth];
+        if (hi <= end) {
+            for (int j = 0; j < resources; j++) {
+                result[j] = Math.min(result[j], min[base + j] + above[j]);
+            }
+            return;
+        }
+        int[] below = scratch[depth + 1];
+        for (int j = 0; j < resources; j++) {
+            below[j] = above[j] + add[base + j];
+        }
+        int mid = (lo + hi) >>> 1;
+        queryPrefix(2 * node, lo, mid, end, depth + 1);
+        if (end > mid) {
+            queryPrefix(2 * node + 1, mid, hi, end, depth + 1);
+        }
+    }
+
+    private void pull(int node) {
+        int base = node * resources;
+        int l = 2 * node * resources;
+        int r = l + resources;
+        for (int j = 0; j < resources; j++) {
+            min[base + j] = Math.min(min[l + j], min[r + j]) + add[base + j];
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package cpuscheduler;
+
+// Receives a real-time schedule one slot at a time, so callers can count, write or
+// draw slots without the simulator building the whole list. taskId is IDLE for idle time.
+public interface SlotSink {
+    int IDLE = -1;
+
+    void slot(int taskId, long start, long end);
+
+    default void finish() {
+    }
+}
@@ -0,0 +1,65 @@
+package cpuscheduler;
+
+import java.util.List;
+
+// Stride scheduling, the deterministic counterpart of lottery scheduling: a process holds
+// max(1, priority) tickets and its stride is STRIDE1 / tickets. The ready process with the
+// smallest pass runs for a quantum and then advances its pass by its stride, so CPU time
+// follows the tickets exactly rather than on average. Passes live in an IndexedMinHeap (ties to
+// the earlier arrival); a process that arrives starts at the smallest pass in the system, so it
+// gets neither a head start nor a backlog.
+public class StrideScheduler implements Scheduler {
+    static final long STRIDE1 = 1L << 30;
+
+    @Override
+    public void schedule(ProcessTable t, List<GanttEntry> ganttEntries, int quantum) {
+        int[] order = t.arrivalOrder();
+        int n = order.length;
+
+        // Ready processes keyed on pass. Ids are positions in arrival order.
+        IndexedMinHeap readyQueue = new IndexedMinHeap(n);
+        long globalPass = 0;
+
+        int currentTime = 0;
+        int index = 0;
+
+        while (index < n || !readyQueue.isEmpty()) {
+            if (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                if (!readyQueue.isEmpty()) {
+                    globalPass = Math.max(globalPass, readyQueue.peekKey());
+                }
+                while (index < n && t.arrivalTime[order[index]] <= currentTime) {
+                    readyQueue.insert(index, globalPass);
+                    index++;
+                }
+            }
+            if (readyQueue.isEmpty()) {
+                currentTime = t.arrivalTime[order[index]];
+                continue;
+            }
+
+            // The winner stays in the heap; advancing its pass is a single sift-down
+            long pass = readyQueue.peekKey();
+            int current = readyQueue.peek();
+            int p = order[current];
+            if (t.startTime[p] == -1) {
+                t.startTime[p] = currentTime;
+            }
+            int sliceStart = currentTime;
+            int executionTime = Math.min(quantum, t.remainingTime[p]);
+            t.remainingTime[p] -= executionTime;
+            currentTime += executionTime;
+            ganttEntries.add(new GanttEntry(t.pid(p), sliceStart, currentTime));
+
+            if (t.remainingTime[p] > 0) {
+                readyQueue.changeKey(current, pass + STRIDE1 / LotteryScheduler.tickets(t.priority[p]));
+            } else {
+                readyQueue.poll();
+                t.completionTime[p] = currentTime;
+                t.turnaroundTime[p] = t.completionTime[p] - t.arrivalTime[p];
+                t.waitingTime[p] = t.turnaroundTime[p] - t.burstTime[p];
+                t.responseTime[p] = t.startTime[p] - t.arrivalTime[p];
+            }
+        }
+    }
+}
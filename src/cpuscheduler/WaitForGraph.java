@@ -0,0 +1,295 @@
+package cpuscheduler;
+
+import java.util.Arrays;
+
+// Wait-for graph over processes 0..n-1 for single-instance resources: an edge u -> v means u is
+// blocked on something v holds, and a cycle is a deadlock. Instead of searching for cycles after
+// every change, the graph keeps a topological order of its processes (Pearce & Kelly's dynamic
+// topological sort). An edge that agrees with the order is inserted in O(1); otherwise only the
+// processes whose order lies between the two endpoints are searched and reordered, and if the
+// search from v reaches u the edge would close a cycle. Such an edge is not inserted; addEdge
+// returns the cycle instead, so the caller can refuse the wait or pick a victim.
+// Removing an edge never breaks the order, so removal only unlinks it: O(1) on the holder's
+// side and a scan of the waiter's out-edges, which are few since a process waits on little at
+// a time.
+public class WaitForGraph {
+    private static final int[] EMPTY = new int[0];
+
+    private final int n;
+    private final int[] ord;      // position of each process in the topological order
+    private final int[] atOrd;    // process at each position
+    private final int[][] out, outBack, outCount;  // targets, their index in in[target], multiplicity
+    private final int[][] in, inBack;              // sources, their index in out[source]
+    private final int[] outSize, inSize;
+    private long edges;
+
+    // Scratch for the searches of addEdge
+    private final int[] mark, parent, stack;
+    private final int[] forward, backward, slots;
+    private int stamp, forwardSize;
+
+    public WaitForGraph(int processes) {
+        n = processes;
+        ord = new int[n];
+        atOrd = new int[n];
+        for (int p = 0; p < n; p++) {
+            ord[p] = p;
+            atOrd[p] = p;
+        }
+        out = new int[n][];
+        outBack = new int[n][];
+        outCount = new int[n][];
+        in = new int[n][];
+        inBack = new int[n][];
+        Arrays.fill(out, EMPTY);
+        Arrays.fill(outBack, EMPTY);
+        Arrays.fill(outCount, EMPTY);
+        Arrays.fill(in, EMPTY);
+        Arrays.fill(inBack, EMPTY);
+        outSize = new int[n];
+        inSize = new int[n];
+        mark = new int[n];
+        parent = new int[n];
+        stack = new int[n];
+        forward = new int[n];
+        backward = new int[n];
+        slots = new int[n];
+    }
+
+    public int processes() {
+        return n;
+    }
+
+    // Distinct edges currently in the graph
+    public long edges() {
+        return edges;
+    }
+
+    public boolean hasEdge(int waiter, int holder) {
+        return find(waiter, holder) >= 0;
+    }
+
+    // Records that `waiter` waits on `holder`; adding an existing edge again counts it twice, so
+    // it takes as many removals to drop. Returns null, or the processes of the cycle the edge
+    // would close in wait order (waiter, holder, ..., back to waiter), in which case the graph
+    // is left unchanged.
+    public int[] addEdge(int waiter, int holder) {
+        int i = find(waiter, holder);
+        if (i >= 0) {
+            outCount[waiter][i]++;
+            return null;
+        }
+        if (waiter == holder) {
+            return new int[]{waiter};
+        }
+        int lower = ord[holder];
+        int upper = ord[waiter];
+        if (lower < upper) {
+            if (stamp > Integer.MAX_VALUE - 2) {
+                Arrays.fill(mark, 0);
+                stamp = 0;
+            }
+            stamp += 2;
+            int[] cycle = searchForward(holder, waiter, upper);
+            if (cycle != null) {
+                return cycle;
+            }
+            reorder(searchBackward(waiter, lower));
+        }
+        link(waiter, holder);
+        return null;
+    }
+
+    // Drops one count of the edge; false if there was no such edge
+    public boolean removeEdge(int waiter, int holder) {
+        int i = find(waiter, holder);
+        if (i < 0) {
+            return false;
+        }
+        if (--outCount[waiter][i] == 0) {
+            unlink(waiter, i);
+        }
+        return true;
+    }
+
+    // Drops every edge into and out of p, e.g. when p finishes or is aborted
+    public void removeAll(int p) {
+        while (outSize[p] > 0) {
+            unlink(p, outSize[p] - 1);
+        }
+        while (inSize[p] > 0) {
+            int last = inSize[p] - 1;
+            unlink(in[p][last], inBack[p][last]);
+        }
+    }
+
+    // Processes p is waiting on
+    public int[] waitsOn(int p) {
+        return Arrays.copyOf(out[p], outSize[p]);
+    }
+
+    // Processes waiting on p
+    public int[] waitedOnBy(int p) {
+        return Arrays.copyOf(in[p], inSize[p]);
+    }
+
+    private int find(int waiter, int holder) {
+        int[] targets = out[waiter];
+        for (int i = 0, size = outSize[waiter]; i < size; i++) {
+            if (targets[i] == holder) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Everything reachable from `start` that sits before `upper` in the order goes to forward[];
+    // returns the cycle if `target` (at `upper`) is reachable
+    private int[] searchForward(int start, int target, int upper) {
+        int top = 0;
+        int found = 0;
+        stack[top++] = start;
+        mark[start] = stamp;
+        parent[start] = -1;
+        while (top > 0) {
+            int w = stack[--top];
+            forward[found++] = w;
+            int[] targets = out[w];
+            for (int i = 0, size = outSize[w]; i < size; i++) {
+                int x = targets[i];
+                if (x == target) {
+                    int length = 2;
+                    for (int q = w; q != start; q = parent[q]) {
+                        length++;
+                    }
+                    int[] cycle = new int[length];
+                    cycle[0] = target;
+                    int k = length - 1;
+                    for (int q = w; q != -1; q = parent[q]) {
+                        cycle[k--] = q;
+                    }
+                    return cycle;
+                }
+                if (mark[x] != stamp && ord[x] < upper) {
+                    mark[x] = stamp;
+                    parent[x] = w;
+                    stack[top++] = x;
+                }
+            }
+        }
+        forwardSize = found;
+        return null;
+    }
+
+    // Everything that reaches `start` and sits after `lower` in the order goes to backward[];
+    // returns how many
+    private int searchBackward(int start, int lower) {
+        int top = 0;
+        int found = 0;
+        int seen = stamp + 1;
+        stack[top++] = start;
+        mark[start] = seen;
+        while (top > 0) {
+            int w = stack[--top];
+            backward[found++] = w;
+            int[] sources = in[w];
+            for (int i = 0, size = inSize[w]; i < size; i++) {
+                int x = sources[i];
+                if (mark[x] != seen && ord[x] > lower) {
+                    mark[x] = seen;
+                    stack[top++] = x;
+                }
+            }
+        }
+        return found;
+    }
+
+    // Moves the backward set ahead of the forward set, reusing the positions both held
+    private void reorder(int backwardSize) {
+        for (int i = 0; i < backwardSize; i++) {
+            backward[i] = ord[backward[i]];
+        }
+        for (int i = 0; i < forwardSize; i++) {
+            forward[i] = ord[forward[i]];
+        }
+        Arrays.sort(backward, 0, backwardSize);
+        Arrays.sort(forward, 0, forwardSize);
+
+        // Merge the two sorted position lists into the slots to fill, then place the processes
+        // (still findable through atOrd) in order: backward ones first
+        int b = 0, f = 0, k = 0;
+        while (b < backwardSize || f < forwardSize) {
+            if (f == forwardSize || (b < backwardSize && backward[b] < forward[f])) {
+                slots[k++] = backward[b++];
+            } else {
+                slots[k++] = forward[f++];
+            }
+        }
+        for (int i = 0; i < backwardSize; i++) {
+            backward[i] = atOrd[backward[i]];
+        }
+        for (int i = 0; i < forwardSize; i++) {
+            forward[i] = atOrd[forward[i]];
+        }
+        k = 0;
+        for (int i = 0; i < backwardSize; i++) {
+            place(backward[i], slots[k++]);
+        }
+        for (int i = 0; i < forwardSize; i++) {
+            place(forward[i], slots[k++]);
+        }
+    }
+
+    private void place(int p, int position) {
+        ord[p] = position;
+        atOrd[position] = p;
+    }
+
+    private void link(int u, int v) {
+        if (outSize[u] == out[u].length) {
+            int capacity = Math.max(4, out[u].length * 2);
+            out[u] = Arrays.copyOf(out[u], capacity);
+            outBack[u] = Arrays.copyOf(outBack[u], capacity);
+            outCount[u] = Arrays.copyOf(outCount[u], capacity);
+        }
+        if (inSize[v] == in[v].length) {
+            int capacity = Math.max(4, in[v].length * 2);
+            in[v] = Arrays.copyOf(in[v], capacity);
+            inBack[v] = Arrays.copyOf(inBack[v], capacity);
+        }
+        int i = outSize[u]++;
+        int j = inSize[v]++;
+        out[u][i] = v;
+        outCount[u][i] = 1;
+        outBack[u][i] = j;
+        in[v][j] = u;
+        inBack[v][j] = i;
+        edges++;
+    }
+
+    // Removes out-edge i of u, moving the last edge of each list into the hole
+    private void unlink(int u, int i) {
+        int v = out[u][i];
+        int j = outBack[u][i];
+
+        int lastIn = --inSize[v];
+        if (j != lastIn) {
+            int w = in[v][lastIn];
+            int wi = inBack[v][lastIn];
+            in[v][j] = w;
+            inBack[v][j] = wi;
+            outBack[w][wi] = j;
+        }
+
+        int lastOut = --outSize[u];
+        if (i != lastOut) {
+            int x = out[u][lastOut];
+            int xj = outBack[u][lastOut];
+            out[u][i] = x;
+            outBack[u][i] = xj;
+            outCount[u][i] = outCount[u][lastOut];
+            inBack[x][xj] = i;
+        }
+        edges--;
+    }
+}
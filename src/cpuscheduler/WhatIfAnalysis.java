@@ -0,0 +1,163 @@
+package cpuscheduler;
+
+import java.util.stream.IntStream;
+
+// Evaluates many candidate requests against one Banker's state at once: for each candidate,
+// could it be granted now and leave the state safe? The state is only read, so the candidates
+// run in parallel on the common fork-join pool, in chunks of CHUNK. A chunk copies need and
+// allocation into its own Scratch the first time one of its candidates needs a check; each check
+// patches the candidate's row, runs a SafetyCheck and restores the row, so a candidate costs O(R)
+// to set up plus the check itself.
+//
+// Most candidates never get that far. If the state is safe, a request from p keeps its safe
+// sequence safe when every process ahead of p has at least the request to spare (see
+// ResourceManager), and the minimum spare over each prefix of the sequence is computed once
+// up front. Only candidates that fail that test get a full check.
+public class WhatIfAnalysis {
+    public static class Request {
+        public final int process;
+        public final int[] amounts;
+
+        public Request(int process, int[] amounts) {
+            this.process = process;
+            this.amounts = amounts;
+        }
+    }
+
+    // Candidates per parallel task; each task that needs a full check copies the state once
+    private static final int CHUNK = 64;
+
+    private final BankersState state;
+    private final int[] prefixSlack;   // [k * R + j]: least spare on j among positions before k
+    private final int[] position;      // position of each process in the safe sequence
+    private final boolean safe;
+
+    public WhatIfAnalysis(BankersState state) {
+        this.state = state;
+        int P = state.processes;
+        int R = state.resources;
+        int[] sequence = new SafetyCheck(P, R).safeSequence(state);
+        safe = sequence != null;
+        position = new int[P];
+        prefixSlack = safe ? new int[(P + 1) * R] : null;
+        if (safe) {
+            int[] work = state.available.clone();
+            for (int j = 0; j < R; j++) {
+                prefixSlack[j] = Integer.MAX_VALUE;
+            }
+            for (int k = 0; k < P; k++) {
+                int p = sequence[k];
+                position[p] = k;
+                for (int j = 0; j < R; j++) {
+                    int spare = work[j] - state.need[p * R + j];
+                    prefixSlack[(k + 1) * R + j] = Math.min(prefixSlack[k * R + j], spare);
+                    work[j] += state.allocation[p * R + j];
+                }
+            }
+        }
+    }
+
+    // True if the current state itself is safe
+    public boolean isSafe() {
+        return safe;
+    }
+
+    // One decision per candidate, in order: GRANTED if it fits in `available` and leaves the
+    // state safe, WAIT if it does not fit, UNSAFE otherwise. A candidate that exceeds its
+    // process's remaining claim is rejected before anything runs.
+    public ResourceManager.Decision[] evaluate(Request[] candidates) {
+        int R = state.resources;
+        for (int i = 0; i < candidates.length; i++) {
+            Request c = candidates[i];
+            if (c.process < 0 || c.process >= state.processes || c.amounts.length != R) {
+                throw new IllegalArgumentException("Request " + i + " does not match the state");
+            }
+            for (int j = 0; j < R; j++) {
+                if (c.amounts[j] < 0 || c.amounts[j] > state.need[c.process * R + j]) {
+                    throw new IllegalArgumentException("Request " + i + " exceeds the maximum claim of process "
+                            + c.process);
+                }
+            }
+        }
+
+        // One Scratch per chunk, made lazily inside the task, so nothing outlives the call
+        ResourceManager.Decision[] decisions = new ResourceManager.Decision[candidates.length];
+        int chunks = (candidates.length + CHUNK - 1) / CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            Scratch scratch = null;
+            for (int i = c * CHUNK, end = Math.min(i + CHUNK, candidates.length); i < end; i++) {
+                decisions[i] = decide(candidates[i]);
+                if (decisions[i] == null) {
+                    if (scratch == null) {
+                        scratch = new Scratch(state);
+                    }
+                    decisions[i] = scratch.check(candidates[i].process, candidates[i].amounts)
+                            ? ResourceManager.Decision.GRANTED : ResourceManager.Decision.UNSAFE;
+                }
+            }
+        });
+        return decisions;
+    }
+
+    // Indices of the candidates that can be granted safely
+    public static int[] granted(ResourceManager.Decision[] decisions) {
+        return IntStream.range(0, decisions.length)
+                .filter(i -> decisions[i] == ResourceManager.Decision.GRANTED)
+                .toArray();
+    }
+
+    // The decision if the cheap tests settle it, or null if it needs a full safety check
+    private ResourceManager.Decision decide(Request c) {
+        int R = state.resources;
+        int[] req = c.amounts;
+        for (int j = 0; j < R; j++) {
+            if (req[j] > state.available[j]) {
+                return ResourceManager.Decision.WAIT;
+            }
+        }
+        if (safe && fitsSequence(c.process, req)) {
+            return ResourceManager.Decision.GRANTED;
+        }
+        return null;
+    }
+
+    private boolean fitsSequence(int p, int[] req) {
+        int R = state.resources;
+        int base = position[p] * R;
+        for (int j = 0; j < R; j++) {
+            if (prefixSlack[base + j] < req[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Private copy of the mutable parts of the state plus the check's own buffers
+    private static final class Scratch {
+        final BankersState shared;
+        final SafetyCheck check;
+        final int[] need, allocation, available;
+
+        Scratch(BankersState shared) {
+            this.shared = shared;
+            check = new SafetyCheck(shared.processes, shared.resources);
+            need = shared.need.clone();
+            allocation = shared.allocation.clone();
+            available = new int[shared.resources];
+        }
+
+        boolean check(int p, int[] req) {
+            int R = shared.resources;
+            int base = p * R;
+            for (int j = 0; j < R; j++) {
+                available[j] = shared.available[j] - req[j];
+                allocation[base + j] += req[j];
+                need[base + j] -= req[j];
+            }
+            boolean safe = check.run(shared.processes, R, need, allocation, available, null) == shared.processes;
+            System.arraycopy(shared.allocation, base, allocation, base, R);
+            System.arraycopy(shared.need, base, need, base, R);
+            return safe;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package cpuscheduler;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Reads workload files with one process per line: pid,arrival,burst[,priority]
+// Blank lines, lines starting with '#' and a leading header line are skipped.
+//
+// The file is memory-mapped in chunks of up to 1 GB and parsed straight from the mapped
+// bytes; only the pid of each line becomes a String. Rows go into a ProcessTable, or to a
+// RowHandler when even the table is not wanted.
+public final class WorkloadReader {
+    private static final long MAX_CHUNK = 1L << 30;
+
+    public interface RowHandler {
+        void row(String pid, int arrival, int burst, int priority);
+    }
+
+    private WorkloadReader() {
+    }
+
+    public static ProcessTable read(Path file) throws IOException {
+        ProcessTable table = new ProcessTable(1024);
+        forEachRow(file, (pid, arrival, burst, priority) -> {
+            if (table.containsPid(pid)) {
+                throw new IllegalArgumentException(file + ": duplicate process ID " + pid);
+            }
+            table.add(pid, arrival, burst, priority);
+        });
+        return table;
+    }
+
+    // Calls the handler for every process line, in file order
+    public static void forEachRow(Path file, RowHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Parser parser = new Parser(file, handler);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(MAX_CHUNK, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int end = (int) length;
+                if (position + length < size) {
+                    // Stop after the last complete line; the rest starts the next chunk
+                    while (end > 0 && buffer.get(end - 1) != '\n') {
+                        end--;
+                    }
+                    if (end == 0) {
+                        throw new IOException(file + ": line longer than " + MAX_CHUNK + " bytes");
+                    }
+                }
+                parser.parse(buffer, end);
+                position += end;
+            }
+        }
+    }
+
+    private static final class Parser {
+        private final Path file;
+        private final RowHandler handler;
+        private final int[] fieldStart = new int[4];
+        private final int[] fieldEnd = new int[4];
+        private byte[] pidBytes = new byte[32];
+        private int lineNo;
+        private boolean seenRow;
+
+        Parser(Path file, RowHandler handler) {
+            this.file = file;
+            this.handler = handler;
+        }
+
+        void parse(MappedByteBuffer buffer, int limit) {
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                lineNo++;
+                parseLine(buffer, lineStart, lineEnd);
+                lineStart = lineEnd + 1;
+            }
+        }
+
+        private void parseLine(MappedByteBuffer buffer, int start, int end) {
+            while (start < end && isBlank(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isBlank(buffer.get(end - 1))) {
+                end--;
+            }
+            if (start == end || buffer.get(start) == '#') {
+                return;
+            }
+
+            int fields = 0;
+            int i = start;
+            while (i < end) {
+                if (fields == 4) {
+                    throw error("expected pid,arrival,burst[,priority]");
+                }
+                fieldStart[fields] = i;
+                while (i < end && !isSeparator(buffer.get(i))) {
+                    i++;
+                }
+                fieldEnd[fields++] = i;
+                while (i < end && isSeparator(buffer.get(i))) {
+                    i++;
+                }
+            }
+
+            if (!seenRow && isHeader(buffer, fields)) {
+                seenRow = true;
+                return;
+            }
+            seenRow = true;
+            if (fields < 3) {
+                throw error("expected pid,arrival,burst[,priority]");
+            }
+
+            int arrival = parseInt(buffer, 1);
+            int burst = parseInt(buffer, 2);
+            int priority = fields == 4 ? parseInt(buffer, 3) : 1;
+            if (arrival < 0 || burst <= 0 || priority < 0) {
+                throw error("values must be non-negative and burst > 0");
+            }
+            handler.row(pid(buffer), arrival, burst, priority);
+        }
+
+        private String pid(MappedByteBuffer buffer) {
+            int length = fieldEnd[0] - fieldStart[0];
+            if (length > pidBytes.length) {
+                pidBytes = new byte[Math.max(length, pidBytes.length * 2)];
+            }
+            buffer.get(fieldStart[0], pidBytes, 0, length);
+            return new String(pidBytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        private int parseInt(MappedByteBuffer buffer, int field) {
+            int i = fieldStart[field];
+            int end = fieldEnd[field];
+            boolean negative = buffer.get(i) == '-';
+            if (negative || buffer.get(i) == '+') {
+                i++;
+            }
+            if (i == end) {
+                throw error("invalid number");
+            }
+            long value = 0;
+            for (; i < end; i++) {
+                int digit = buffer.get(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw error("invalid number");
+                }
+                value = value * 10 + digit;
+                if (value > Integer.MAX_VALUE + 1L) {
+                    throw error("number out of range");
+                }
+            }
+            value = negative ? -value : value;
+            if (value > Integer.MAX_VALUE) {
+                throw error("number out of range");
+            }
+            return (int) value;
+        }
+
+        // A first line whose arrival column is not a number, e.g. "pid,arrival,burst,priority"
+        private boolean isHeader(MappedByteBuffer buffer, int fields) {
+            if (fields < 2) {
+                return false;
+            }
+            byte b = buffer.get(fieldStart[1]);
+            return !(b >= '0' && b <= '9') && b != '-' && b != '+';
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(file + ":" + lineNo + ": " + message);
+        }
+
+        private static boolean isBlank(byte b) {
+            return b == ' ' || b == '\t' || b == '\r';
+        }
+
+        private static boolean isSeparator(byte b) {
+            return b == ',' || isBlank(b);
+        }
+    }
+}
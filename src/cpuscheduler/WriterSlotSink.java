@@ -0,0 +1,37 @@
+package cpuscheduler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+// Writes slots as "task,start,end" lines, e.g. "T0,0,2" or "IDLE,7,10".
+public class WriterSlotSink implements SlotSink {
+    private final Writer out;
+
+    public WriterSlotSink(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void slot(int taskId, long start, long end) {
+        try {
+            out.write(taskId == IDLE ? "IDLE" : "T" + taskId);
+            out.write(',');
+            out.write(Long.toString(start));
+            out.write(',');
+            out.write(Long.toString(end));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
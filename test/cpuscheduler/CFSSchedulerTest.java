@@ -0,0 +1,95 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CFSSchedulerTest {
+
+    @Test
+    void priorityMapsOntoNice() {
+        assertEquals(88761, CFSScheduler.weight(0));     // nice -20
+        assertEquals(1024, CFSScheduler.weight(20));     // nice 0
+        assertEquals(15, CFSScheduler.weight(39));       // nice 19
+        assertEquals(15, CFSScheduler.weight(100));
+        assertEquals(88761, CFSScheduler.weight(-5));
+    }
+
+    @Test
+    void randomWorkloadsGiveValidSchedules() {
+        SplittableRandom random = new SplittableRandom(4);
+        for (int trial = 0; trial < 5000; trial++) {
+            int n = 1 + random.nextInt(10);
+            ProcessTable t = new ProcessTable();
+            for (int i = 0; i < n; i++) {
+                t.add("P" + i, random.nextInt(40), 1 + random.nextInt(30), random.nextInt(40));
+            }
+            int latency = 1 + random.nextInt(20);
+            int granularity = 1 + random.nextInt(latency);
+            List<GanttEntry> ganttEntries = new ArrayList<>();
+            new CFSScheduler(latency, granularity).schedule(t, ganttEntries, 2);
+
+            // One CPU: entries in time order without overlap, each process gets exactly its
+            // burst, never before it arrives, and the CPU idles only when nothing is runnable
+            Map<String, Integer> ran = new HashMap<>();
+            int previousEnd = 0;
+            for (GanttEntry e : ganttEntries) {
+                assertTrue(e.start >= previousEnd && e.end > e.start, "trial " + trial);
+                if (e.start > previousEnd) {
+                    assertFalse(runnableDuring(t, previousEnd, e.start), "idle while runnable, trial " + trial);
+                }
+                previousEnd = e.end;
+                ran.merge(e.pid, e.end - e.start, Integer::sum);
+            }
+            for (int i = 0; i < n; i++) {
+                assertEquals(t.burstTime[i], (int) ran.get("P" + i), "trial " + trial);
+                assertTrue(t.startTime[i] >= t.arrivalTime[i], "trial " + trial);
+                assertEquals(t.completionTime[i] - t.arrivalTime[i] - t.burstTime[i], t.waitingTime[i]);
+            }
+        }
+    }
+
+    @Test
+    void cpuTimeFollowsWeights() {
+        // nice 0, 5, -5 and 10, all runnable for the whole window
+        int[] priorities = {20, 25, 15, 30};
+        ProcessTable t = new ProcessTable();
+        long totalWeight = 0;
+        for (int i = 0; i < priorities.length; i++) {
+            t.add("P" + i, 0, 100000, priorities[i]);
+            totalWeight += CFSScheduler.weight(priorities[i]);
+        }
+        List<GanttEntry> ganttEntries = new ArrayList<>();
+        new CFSScheduler().schedule(t, ganttEntries, 2);
+
+        int window = 20000;
+        Map<String, Integer> ran = new HashMap<>();
+        for (GanttEntry e : ganttEntries) {
+            if (e.start >= window) {
+                break;
+            }
+            ran.merge(e.pid, Math.min(e.end, window) - e.start, Integer::sum);
+        }
+        for (int i = 0; i < priorities.length; i++) {
+            double expected = (double) window * CFSScheduler.weight(priorities[i]) / totalWeight;
+            assertEquals(expected, ran.getOrDefault("P" + i, 0), window * 0.01, "P" + i);
+        }
+    }
+
+    private static boolean runnableDuring(ProcessTable t, int from, int to) {
+        for (int i = 0; i < t.size(); i++) {
+            if (t.arrivalTime[i] < to && t.completionTime[i] > from) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
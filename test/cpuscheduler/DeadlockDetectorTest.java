@@ -0,0 +1,83 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class DeadlockDetectorTest {
+
+    @Test
+    void findsTheProcessesOfACycle() {
+        // One resource with one instance each: 0 holds A and wants B, 1 holds B and wants A,
+        // 2 holds nothing and waits on A
+        int[] request = {0, 1, 1, 0, 1, 0};
+        int[] allocation = {1, 0, 0, 1, 0, 0};
+        int[] available = {0, 0};
+        assertArrayEquals(new int[]{0, 1}, new DeadlockDetector(3, 2).deadlocked(request, allocation, available));
+    }
+
+    @Test
+    void matchesTheTextbookAlgorithm() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int trial = 0; trial < 5000; trial++) {
+            int P = 1 + random.nextInt(12);
+            int R = 1 + random.nextInt(3);
+            int[] request = new int[P * R];
+            int[] allocation = new int[P * R];
+            int[] available = new int[R];
+            for (int j = 0; j < R; j++) {
+                available[j] = random.nextInt(3);
+            }
+            for (int i = 0; i < P * R; i++) {
+                allocation[i] = random.nextInt(3) == 0 ? 0 : random.nextInt(3);
+                request[i] = random.nextInt(4);
+            }
+            assertArrayEquals(textbook(P, R, request, allocation, available),
+                    new DeadlockDetector(P, R).deadlocked(request, allocation, available));
+        }
+    }
+
+    // Silberschatz's detection algorithm: processes holding nothing start finished, then any
+    // process whose request fits in work finishes and returns its allocation
+    private static int[] textbook(int P, int R, int[] request, int[] allocation, int[] available) {
+        boolean[] finished = new boolean[P];
+        int[] work = available.clone();
+        for (int p = 0; p < P; p++) {
+            finished[p] = true;
+            for (int j = 0; j < R; j++) {
+                finished[p] &= allocation[p * R + j] == 0;
+            }
+        }
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int p = 0; p < P; p++) {
+                if (finished[p]) {
+                    continue;
+                }
+                boolean fits = true;
+                for (int j = 0; j < R; j++) {
+                    fits &= request[p * R + j] <= work[j];
+                }
+                if (fits) {
+                    finished[p] = true;
+                    progress = true;
+                    for (int j = 0; j < R; j++) {
+                        work[j] += allocation[p * R + j];
+                    }
+                }
+            }
+        }
+        int count = 0;
+        int[] deadlocked = new int[P];
+        for (int p = 0; p < P; p++) {
+            if (!finished[p]) {
+                deadlocked[count++] = p;
+            }
+        }
+        return Arrays.copyOf(deadlocked, count);
+    }
+}
@@ -0,0 +1,162 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EDFSchedulerTest {
+    // Every period divides 120, so the hyperperiods stay small enough to simulate
+    private static final int[] PERIODS = {2, 3, 4, 5, 6, 8, 10, 12, 15, 20};
+
+    @Test
+    void knownConstrainedDeadlineSets() {
+        // h(2) = 1, h(4) = 3, h(6) = 4: fits
+        assertTrue(EDFScheduler.demandTest(tasks(new int[][]{{4, 1, 2}, {6, 2, 4}})));
+        // U = 0.83, but both first jobs are due by 3 and need 4
+        assertFalse(EDFScheduler.demandTest(tasks(new int[][]{{4, 2, 2}, {6, 2, 3}})));
+        // U = 1 with deadlines before the period, still feasible
+        assertTrue(EDFScheduler.demandTest(tasks(new int[][]{{4, 2, 3}, {4, 2, 4}})));
+        // U = 1 and h(4) = 5
+        assertFalse(EDFScheduler.demandTest(tasks(new int[][]{{4, 2, 3}, {8, 4, 4}})));
+        // Implicit deadlines: utilization decides, exactly 1 included
+        assertTrue(EDFScheduler.demandTest(tasks(new int[][]{{3, 1, 3}, {6, 1, 6}, {2, 1, 2}})));
+        assertFalse(EDFScheduler.demandTest(tasks(new int[][]{{3, 2, 3}, {2, 1, 2}})));
+    }
+
+    @Test
+    @Timeout(10)
+    void fullUtilizationDoesNotRunToTheHyperperiod() {
+        // Utilization within 1e-9 of 1 and a hyperperiod beyond 2^63: no reachable bound, so a
+        // set with constrained deadlines is rejected rather than searched
+        int p1 = 2147483647, p2 = 2147483629, p3 = 2147483587;
+        List<EDFScheduler.Task> set = tasks(new int[][]{{p1, p1 / 2, p1 - 5}, {p2, p2 / 3, p2}, {p3, p3 / 6 + 1, p3}});
+        assertFalse(EDFScheduler.demandTest(set));
+
+        // Utilization 1 - 1e-11, which counts as full, and a hyperperiod of about 10^12: QPA
+        // walks down from the hyperperiod bound
+        int q1 = 1000003, q2 = 999983;
+        assertTrue(EDFScheduler.demandTest(tasks(new int[][]{{q1, q1 / 2 + 1, q1 - 1}, {q2, q2 / 2, q2}})));
+    }
+
+    @Test
+    void agreesWithSimulationOverTheHyperperiod() {
+        SplittableRandom random = new SplittableRandom(9);
+        int schedulable = 0;
+        for (int trial = 0; trial < 20000; trial++) {
+            int n = 1 + random.nextInt(5);
+            int[][] spec = new int[n][];
+            for (int i = 0; i < n; i++) {
+                int period = PERIODS[random.nextInt(PERIODS.length)];
+                spec[i] = new int[]{period, random.nextInt(period / 2 + 1), 1 + random.nextInt(period)};
+            }
+            boolean expected = meetsAllDeadlines(tasks(spec));
+            assertEquals(expected, EDFScheduler.demandTest(tasks(spec)), "trial " + trial);
+            if (expected) {
+                schedulable++;
+            }
+        }
+        assertTrue(schedulable > 1000 && schedulable < 19000, "too one-sided: " + schedulable);
+    }
+
+    @Test
+    void windowMatchesTheSameRangeOfAFullRun() {
+        SplittableRandom random = new SplittableRandom(13);
+        for (int trial = 0; trial < 3000; trial++) {
+            int n = 1 + random.nextInt(4);
+            int[][] spec = new int[n][];
+            for (int i = 0; i < n; i++) {
+                int period = PERIODS[random.nextInt(PERIODS.length)];
+                spec[i] = new int[]{period, random.nextInt(period + 1), 1 + random.nextInt(period)};
+            }
+            List<EDFScheduler.Task> set = tasks(spec);
+            long hp = EDFScheduler.calculateHyperPeriod(set);
+            List<long[]> full = RMSchedulerTest.record(sink -> EDFScheduler.simulateEDF(set, 5 * hp, sink));
+
+            long from = random.nextInt(4) == 0 ? hp * random.nextInt(4) : random.nextLong(4 * hp);
+            long to = from + random.nextLong(hp + 1);
+            RMSchedulerTest.assertSlotsEqual(RMSchedulerTest.clip(full, from, to),
+                    RMSchedulerTest.record(sink -> EDFScheduler.simulateEDF(set, from, to, sink)), "trial " + trial);
+        }
+    }
+
+    @Test
+    void windowWithOverflowingHyperperiod() {
+        int[] primes = {1009, 1013, 1019, 1021, 1031, 1033, 1039, 1049, 1051, 1061, 1063, 1069, 1087, 1091, 1093,
+                1097, 1103};
+        int[][] spec = new int[primes.length][];
+        for (int i = 0; i < primes.length; i++) {
+            spec[i] = new int[]{primes[i], 50, primes[i] - 3 * i};
+        }
+        List<EDFScheduler.Task> set = tasks(spec);
+        assertThrows(ArithmeticException.class, () -> EDFScheduler.calculateHyperPeriod(set));
+
+        long from = 1_234_567, to = from + 20_000;
+        List<long[]> full = RMSchedulerTest.record(sink -> EDFScheduler.simulateEDF(set, to, sink));
+        RMSchedulerTest.assertSlotsEqual(RMSchedulerTest.clip(full, from, to),
+                RMSchedulerTest.record(sink -> EDFScheduler.simulateEDF(set, from, to, sink)), "");
+    }
+
+    @Test
+    void windowNearTheEndOfTime() {
+        List<EDFScheduler.Task> set = tasks(new int[][]{{4, 1, 3}, {6, 2, 5}, {20, 5, 20}});
+        long to = Long.MAX_VALUE - 20;
+        long from = to - 200;
+        long origin = from - from % 60;
+        List<long[]> shifted = new ArrayList<>();
+        for (long[] slot : RMSchedulerTest.clip(RMSchedulerTest.record(sink -> EDFScheduler.simulateEDF(set, 300, sink)),
+                from - origin, to - origin)) {
+            shifted.add(new long[]{slot[0], slot[1] + origin, slot[2] + origin});
+        }
+        RMSchedulerTest.assertSlotsEqual(shifted,
+                RMSchedulerTest.record(sink -> EDFScheduler.simulateEDF(set, from, to, sink)), "");
+        assertThrows(IllegalArgumentException.class,
+                () -> EDFScheduler.simulateEDF(set, from, to + 1, (id, start, end) -> {
+                }));
+    }
+
+    // Simulates two hyperperiods of EDF and checks that every job released in them gets its
+    // WCET before its deadline. A job can only run between its release and the next one, so
+    // the time task i runs in [kT, kT + D) is what job k got in time.
+    static boolean meetsAllDeadlines(List<EDFScheduler.Task> taskList) {
+        int horizon = (int) (2 * EDFScheduler.calculateHyperPeriod(taskList));
+        int n = taskList.size();
+        int[][] ran = new int[n][horizon];
+        EDFScheduler.simulateEDF(taskList, horizon, (id, start, end) -> {
+            if (id != SlotSink.IDLE) {
+                for (long x = start; x < end; x++) {
+                    ran[id][(int) x] = 1;
+                }
+            }
+        });
+        for (int i = 0; i < n; i++) {
+            EDFScheduler.Task t = taskList.get(i);
+            for (int release = 0; release < horizon; release += t.period) {
+                int got = 0;
+                for (int x = release; x < release + t.relativeDeadline; x++) {
+                    got += ran[i][x];
+                }
+                if (got < t.wcet) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // {period, wcet, deadline} per task
+    static List<EDFScheduler.Task> tasks(int[][] spec) {
+        List<EDFScheduler.Task> taskList = new ArrayList<>();
+        for (int i = 0; i < spec.length; i++) {
+            taskList.add(new EDFScheduler.Task(i, spec[i][0], spec[i][1], spec[i][2]));
+        }
+        return taskList;
+    }
+}
@@ -0,0 +1,51 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FenwickTreeTest {
+
+    @Test
+    void matchesLinearScan() {
+        SplittableRandom random = new SplittableRandom(4);
+        for (int trial = 0; trial < 1000; trial++) {
+            int n = 1 + random.nextInt(50);
+            FenwickTree tree = new FenwickTree(n);
+            long[] weight = new long[n];
+            for (int op = 0; op < 200; op++) {
+                int id = random.nextInt(n);
+                long delta = random.nextInt(10);
+                if (random.nextBoolean() && weight[id] >= delta) {
+                    delta = -delta;
+                }
+                weight[id] += delta;
+                tree.add(id, delta);
+
+                long total = 0;
+                for (long w : weight) {
+                    total += w;
+                }
+                assertEquals(total, tree.total());
+                if (total > 0) {
+                    long k = random.nextLong(total);
+                    assertEquals(scan(weight, k), tree.find(k), "k = " + k);
+                }
+            }
+        }
+    }
+
+    // Id whose weight covers position k, found from the left
+    private static int scan(long[] weight, long k) {
+        long covered = 0;
+        for (int id = 0; id < weight.length; id++) {
+            covered += weight[id];
+            if (covered > k) {
+                return id;
+            }
+        }
+        return -1;
+    }
+}
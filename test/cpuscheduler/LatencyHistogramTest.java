@@ -0,0 +1,131 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void valuesBelow256AreExact() {
+        for (long v = 0; v < 256; v++) {
+            assertEquals(v, bucketTop(v));
+        }
+    }
+
+    @Test
+    void bucketBoundariesAtTheFirstPowersOfTwo() {
+        // [256, 512) in buckets of 2
+        assertEquals(255, bucketTop(255));
+        assertEquals(257, bucketTop(256));
+        assertEquals(257, bucketTop(257));
+        assertEquals(259, bucketTop(258));
+        assertEquals(511, bucketTop(510));
+        assertEquals(511, bucketTop(511));
+        // [512, 1024) in buckets of 4
+        assertEquals(515, bucketTop(512));
+        assertEquals(515, bucketTop(515));
+        assertEquals(519, bucketTop(516));
+        assertEquals(1023, bucketTop(1020));
+        // [1024, 2048) in buckets of 8
+        assertEquals(1031, bucketTop(1024));
+        assertEquals(1039, bucketTop(1032));
+        // The last bucket ends at Long.MAX_VALUE rather than overflowing
+        assertEquals(Long.MAX_VALUE, bucketTop(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    void bucketTopIsWithinOnePercent() {
+        SplittableRandom random = new SplittableRandom(15);
+        for (int i = 0; i < 100000; i++) {
+            long v = random.nextLong(1L << random.nextInt(1, 62));
+            long top = bucketTop(v);
+            assertTrue(top >= v && top - v <= v / 128, "value " + v + ", bucket top " + top);
+        }
+    }
+
+    @Test
+    void nearestRankPercentiles() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int v = 1; v <= 100; v++) {
+            h.record(v);
+        }
+        assertEquals(1, h.percentile(0));
+        assertEquals(50, h.percentile(0.5));
+        assertEquals(90, h.percentile(0.9));
+        assertEquals(99, h.percentile(0.99));
+        assertEquals(100, h.percentile(0.999));
+        assertEquals(100, h.percentile(1));
+
+        // Above 256 a percentile is the top of its bucket, clamped to the largest value seen
+        LatencyHistogram wide = new LatencyHistogram();
+        for (int v = 256; v < 356; v++) {
+            wide.record(v);
+        }
+        assertEquals(305, wide.percentile(0.5));
+        assertEquals(355, wide.percentile(1));
+        assertEquals(256, wide.min());
+    }
+
+    @Test
+    void exactStatisticsAndMerging() {
+        SplittableRandom random = new SplittableRandom(16);
+        LatencyHistogram all = new LatencyHistogram();
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        long[] values = new long[5000];
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong(100000);
+            sum += values[i];
+            all.record(values[i]);
+            (i % 3 == 0 ? a : b).record(values[i]);
+        }
+        double mean = sum / values.length;
+        double squares = 0;
+        long min = Long.MAX_VALUE, max = 0;
+        for (long v : values) {
+            squares += (v - mean) * (v - mean);
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        assertEquals(values.length, all.count());
+        assertEquals(min, all.min());
+        assertEquals(max, all.max());
+        assertEquals(mean, all.mean(), 1e-6);
+        assertEquals(Math.sqrt(squares / values.length), all.stdDev(), 1e-6);
+
+        a.add(b);
+        a.add(new LatencyHistogram());
+        assertEquals(all.count(), a.count());
+        assertEquals(all.min(), a.min());
+        assertEquals(all.max(), a.max());
+        assertEquals(all.mean(), a.mean(), 1e-6);
+        assertEquals(all.stdDev(), a.stdDev(), 1e-6);
+        for (double f : new double[]{0.5, 0.9, 0.99, 0.999}) {
+            assertEquals(all.percentile(f), a.percentile(f));
+        }
+    }
+
+    @Test
+    void emptyAndNegative() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.percentile(0.99));
+        assertEquals(0, h.min());
+        assertEquals(0, h.max());
+        assertEquals(0, h.stdDev());
+        assertThrows(IllegalArgumentException.class, () -> h.record(-1));
+    }
+
+    // The p50 of {v, Long.MAX_VALUE} is the top of v's bucket: the clamp to min and max does not apply
+    private static long bucketTop(long v) {
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(v);
+        h.record(Long.MAX_VALUE);
+        return h.percentile(0.5);
+    }
+}
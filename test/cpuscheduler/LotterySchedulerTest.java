@@ -0,0 +1,95 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LotterySchedulerTest {
+
+    @Test
+    void randomWorkloadsGiveValidSchedules() {
+        SplittableRandom random = new SplittableRandom(4);
+        for (int trial = 0; trial < 3000; trial++) {
+            ProcessTable t = randomWorkload(random);
+            List<GanttEntry> ganttEntries = new ArrayList<>();
+            new LotteryScheduler(trial).schedule(t, ganttEntries, 1 + random.nextInt(4));
+            assertValid(t, ganttEntries, "trial " + trial);
+        }
+    }
+
+    @Test
+    void sameSeedGivesSameSchedule() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int trial = 0; trial < 500; trial++) {
+            ProcessTable t = randomWorkload(random);
+            ProcessTable first = t.withFreshResults();
+            ProcessTable second = t.withFreshResults();
+            new LotteryScheduler(trial).schedule(first, new ArrayList<>(), 2);
+            new LotteryScheduler(trial).schedule(second, new ArrayList<>(), 2);
+            assertArrayEquals(first.completionTime, second.completionTime, "trial " + trial);
+        }
+    }
+
+    @Test
+    void cpuTimeFollowsTickets() {
+        int[] tickets = {1, 2, 4, 8};
+        ProcessTable t = new ProcessTable();
+        for (int i = 0; i < tickets.length; i++) {
+            t.add("P" + i, 0, 1000000, tickets[i]);
+        }
+        List<GanttEntry> ganttEntries = new ArrayList<>();
+        new LotteryScheduler(7).schedule(t, ganttEntries, 1);
+
+        // 15000 draws: each share has a standard deviation of at most about 61 units
+        int window = 15000;
+        Map<String, Integer> ran = share(ganttEntries, window);
+        for (int i = 0; i < tickets.length; i++) {
+            assertEquals(window * tickets[i] / 15.0, ran.getOrDefault("P" + i, 0), 250, "P" + i);
+        }
+    }
+
+    static ProcessTable randomWorkload(SplittableRandom random) {
+        int n = 1 + random.nextInt(10);
+        ProcessTable t = new ProcessTable();
+        for (int i = 0; i < n; i++) {
+            t.add("P" + i, random.nextInt(40), 1 + random.nextInt(30), random.nextInt(12));
+        }
+        return t;
+    }
+
+    // One CPU: entries in time order without overlap, each process gets exactly its burst and
+    // never runs before it arrives
+    static void assertValid(ProcessTable t, List<GanttEntry> ganttEntries, String message) {
+        Map<String, Integer> ran = new HashMap<>();
+        int previousEnd = 0;
+        for (GanttEntry e : ganttEntries) {
+            assertTrue(e.start >= previousEnd && e.end > e.start, message);
+            previousEnd = e.end;
+            ran.merge(e.pid, e.end - e.start, Integer::sum);
+        }
+        for (int i = 0; i < t.size(); i++) {
+            assertEquals(t.burstTime[i], (int) ran.get(t.pid(i)), message);
+            assertTrue(t.startTime[i] >= t.arrivalTime[i], message);
+        }
+    }
+
+    // CPU time of each process within [0, window)
+    static Map<String, Integer> share(List<GanttEntry> ganttEntries, int window) {
+        Map<String, Integer> ran = new HashMap<>();
+        for (GanttEntry e : ganttEntries) {
+            if (e.start >= window) {
+                break;
+            }
+            ran.merge(e.pid, Math.min(e.end, window) - e.start, Integer::sum);
+        }
+        return ran;
+    }
+}
@@ -0,0 +1,140 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The event-driven scheduler against a reference that advances one time unit at a time
+class MLFQSchedulerTest {
+
+    @Test
+    void matchesTickByTickReference() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int trial = 0; trial < 5000; trial++) {
+            int n = 1 + random.nextInt(8);
+            ProcessTable t = new ProcessTable();
+            for (int i = 0; i < n; i++) {
+                t.add("P" + i, random.nextInt(30), 1 + random.nextInt(15), 0);
+            }
+            int[] quanta = new int[1 + random.nextInt(4)];
+            for (int k = 0; k < quanta.length; k++) {
+                quanta[k] = 1 + random.nextInt(6);
+            }
+            int boost = random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(25);
+
+            int[] expected = reference(t, quanta, boost);
+            ProcessTable run = t.withFreshResults();
+            List<GanttEntry> ganttEntries = new ArrayList<>();
+            new MLFQScheduler(quanta, boost).schedule(run, ganttEntries, 2);
+
+            assertArrayEquals(expected, run.completionTime, "trial " + trial);
+            long busy = 0;
+            long work = 0;
+            for (GanttEntry e : ganttEntries) {
+                busy += e.end - e.start;
+            }
+            for (int i = 0; i < n; i++) {
+                work += t.burstTime[i];
+            }
+            assertEquals(work, busy, "trial " + trial);
+        }
+    }
+
+    @Test
+    void derivesLevelQuantaFromSchedulerQuantum() {
+        // One process alone: runs 2, then 4, then the rest at the lowest level
+        ProcessTable t = new ProcessTable();
+        t.add("P1", 0, 10, 0);
+        List<GanttEntry> ganttEntries = new ArrayList<>();
+        new MLFQScheduler(3, 0).schedule(t, ganttEntries, 2);
+
+        assertEquals(3, ganttEntries.size());
+        assertEquals(2, ganttEntries.get(0).end);
+        assertEquals(6, ganttEntries.get(1).end);
+        assertEquals(10, ganttEntries.get(2).end);
+    }
+
+    // Completion times. Per tick: boost when the time is a multiple of the interval, admit
+    // arrivals, preempt for a higher level, pick, run one unit, admit the arrivals of that unit
+    // (ahead of a demoted process), then complete or demote.
+    private static int[] reference(ProcessTable t, int[] quanta, int boostInterval) {
+        int n = t.size();
+        int levels = quanta.length;
+        int[] order = t.arrivalOrder();
+        int[] level = new int[n];
+        int[] used = new int[n];
+        int[] remaining = t.burstTime.clone();
+        int[] completion = new int[n];
+        List<ArrayDeque<Integer>> queues = new ArrayList<>();
+        for (int k = 0; k < levels; k++) {
+            queues.add(new ArrayDeque<>());
+        }
+
+        int current = -1;
+        int time = 0;
+        int index = 0;
+        int finished = 0;
+        while (finished < n) {
+            if (boostInterval > 0 && time > 0 && time % boostInterval == 0) {
+                for (int k = 1; k < levels; k++) {
+                    while (!queues.get(k).isEmpty()) {
+                        int p = queues.get(k).pollFirst();
+                        level[p] = 0;
+                        used[p] = 0;
+                        queues.get(0).addLast(p);
+                    }
+                }
+                if (current != -1) {
+                    level[current] = 0;
+                    used[current] = 0;
+                }
+            }
+            while (index < n && t.arrivalTime[order[index]] <= time) {
+                queues.get(0).addLast(order[index++]);
+            }
+            if (current != -1) {
+                for (int k = 0; k < level[current]; k++) {
+                    if (!queues.get(k).isEmpty()) {
+                        queues.get(level[current]).addFirst(current);
+                        current = -1;
+                        break;
+                    }
+                }
+            }
+            if (current == -1) {
+                for (int k = 0; k < levels; k++) {
+                    if (!queues.get(k).isEmpty()) {
+                        current = queues.get(k).pollFirst();
+                        break;
+                    }
+                }
+            }
+
+            time++;
+            while (index < n && t.arrivalTime[order[index]] <= time) {
+                queues.get(0).addLast(order[index++]);
+            }
+            if (current != -1) {
+                remaining[current]--;
+                used[current]++;
+                if (remaining[current] == 0) {
+                    completion[current] = time;
+                    finished++;
+                    current = -1;
+                } else if (used[current] == quanta[level[current]]) {
+                    level[current] = Math.min(level[current] + 1, levels - 1);
+                    used[current] = 0;
+                    queues.get(level[current]).addLast(current);
+                    current = -1;
+                }
+            }
+        }
+        return completion;
+    }
+}
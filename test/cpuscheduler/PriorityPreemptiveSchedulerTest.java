@@ -0,0 +1,86 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+// The event-driven scheduler against the one-time-unit-per-pass loop it replaced. Arrival
+// times are distinct, so equal priorities are always broken by arrival.
+class PriorityPreemptiveSchedulerTest {
+
+    @Test
+    void matchesTickByTickReference() {
+        SplittableRandom random = new SplittableRandom(2);
+        for (int trial = 0; trial < 5000; trial++) {
+            ProcessTable t = SRTFSchedulerTest.distinctArrivals(random, 1 + random.nextInt(10), 1 + random.nextInt(6));
+            List<GanttEntry> expected = new ArrayList<>();
+            ProcessTable reference = t.withFreshResults();
+            reference(reference, expected);
+
+            List<GanttEntry> actual = new ArrayList<>();
+            ProcessTable run = t.withFreshResults();
+            new PriorityPreemptiveScheduler().schedule(run, actual, 2);
+
+            SRTFSchedulerTest.assertSameGantt(expected, actual, "trial " + trial);
+            assertArrayEquals(reference.startTime, run.startTime, "trial " + trial);
+            assertArrayEquals(reference.completionTime, run.completionTime, "trial " + trial);
+            assertArrayEquals(reference.waitingTime, run.waitingTime, "trial " + trial);
+        }
+    }
+
+    // Per time unit: admit arrivals, preempt if a ready process has a strictly lower priority
+    // value, otherwise pick the lowest value (then the earliest arrival), run one unit
+    private static void reference(ProcessTable t, List<GanttEntry> ganttEntries) {
+        int n = t.size();
+        boolean[] ready = new boolean[n];
+        boolean[] arrived = new boolean[n];
+        int done = 0;
+        int current = -1;
+        int sliceStart = -1;
+        for (int time = 0; done < n; ) {
+            for (int p = 0; p < n; p++) {
+                if (!arrived[p] && t.arrivalTime[p] <= time) {
+                    arrived[p] = true;
+                    ready[p] = true;
+                }
+            }
+            int best = -1;
+            for (int p = 0; p < n; p++) {
+                if (ready[p] && (best == -1 || t.priority[p] < t.priority[best]
+                        || (t.priority[p] == t.priority[best] && t.arrivalTime[p] < t.arrivalTime[best]))) {
+                    best = p;
+                }
+            }
+            if (current != -1 && best != -1 && t.priority[best] < t.priority[current]) {
+                ganttEntries.add(new GanttEntry(t.pid(current), sliceStart, time));
+                ready[current] = true;
+                current = -1;
+            }
+            if (current == -1 && best != -1) {
+                current = best;
+                ready[current] = false;
+                if (t.startTime[current] == -1) {
+                    t.startTime[current] = time;
+                }
+                sliceStart = time;
+            }
+            time++;
+            if (current == -1) {
+                continue;
+            }
+            if (--t.remainingTime[current] == 0) {
+                ganttEntries.add(new GanttEntry(t.pid(current), sliceStart, time));
+                t.completionTime[current] = time;
+                t.turnaroundTime[current] = time - t.arrivalTime[current];
+                t.waitingTime[current] = t.turnaroundTime[current] - t.burstTime[current];
+                t.responseTime[current] = t.startTime[current] - t.arrivalTime[current];
+                current = -1;
+                done++;
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QuantumSweepTest {
+
+    @Test
+    void countsMatchAMaterializedRun() {
+        SplittableRandom random = new SplittableRandom(11);
+        int[] quanta = {1, 2, 3, 5, 8};
+        for (int trial = 0; trial < 300; trial++) {
+            int n = 1 + random.nextInt(12);
+            ProcessTable workload = new ProcessTable();
+            for (int i = 0; i < n; i++) {
+                workload.add("P" + i, random.nextInt(30), 1 + random.nextInt(20), 1);
+            }
+
+            List<QuantumSweep.Point> points = QuantumSweep.sweep(workload, quanta);
+            for (int k = 0; k < quanta.length; k++) {
+                ProcessTable t = workload.withFreshResults();
+                List<GanttEntry> ganttEntries = new ArrayList<>();
+                new RoundRobinScheduler().schedule(t, ganttEntries, quanta[k]);
+                long switches = 0;
+                for (int i = 1; i < ganttEntries.size(); i++) {
+                    if (!ganttEntries.get(i).pid.equals(ganttEntries.get(i - 1).pid)) {
+                        switches++;
+                    }
+                }
+
+                QuantumSweep.Point point = points.get(k);
+                assertEquals(quanta[k], point.quantum);
+                assertEquals(ganttEntries.size(), point.slices, "trial " + trial);
+                assertEquals(switches, point.contextSwitches, "trial " + trial);
+                assertEquals(max(t.waitingTime), point.maxWaiting, "trial " + trial);
+            }
+        }
+    }
+
+    @Test
+    void counterKeepsOnlyTheLatestSlice() {
+        QuantumSweep.SliceCounter counter = new QuantumSweep.SliceCounter();
+        assertEquals(0, counter.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> counter.get(0));
+
+        GanttEntry last = new GanttEntry("B", 3, 5);
+        counter.add(new GanttEntry("A", 0, 2));
+        counter.add(new GanttEntry("A", 2, 3));
+        counter.add(last);
+        assertEquals(3, counter.slices);
+        assertEquals(1, counter.switches);
+        assertEquals(1, counter.size());
+        assertSame(last, counter.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> counter.get(1));
+    }
+
+    @Test
+    void parsesRangesAndLists() {
+        assertArrayEquals(new int[]{1, 2, 3}, QuantumSweep.parse("1..3"));
+        assertArrayEquals(new int[]{1, 5, 9}, QuantumSweep.parse("1..10:4"));
+        assertArrayEquals(new int[]{2, 4, 8}, QuantumSweep.parse("2, 4, 8"));
+        assertThrows(IllegalArgumentException.class, () -> QuantumSweep.parse("0..3"));
+        assertThrows(IllegalArgumentException.class, () -> QuantumSweep.parse("x"));
+    }
+
+    private static int max(int[] values) {
+        int max = 0;
+        for (int v : values) {
+            max = Math.max(max, v);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,209 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RMSchedulerTest {
+    private static final int[] PERIODS = {2, 3, 4, 5, 6, 8, 10, 12, 15, 20};
+
+    @Test
+    void passesRtaAboveTheLiuLaylandBound() {
+        // U = 0.85, above the bound of 0.780 for three tasks; the last job finishes at 8 <= 10
+        List<RMScheduler.Task> set = tasks(new int[][]{{4, 1}, {5, 1}, {10, 4}});
+        assertArrayEquals(new long[]{1, 2, 8}, RMScheduler.responseTimes(set));
+    }
+
+    @Test
+    void reportsAMissedDeadline() {
+        // U = 1: the second task is preempted twice by the first and finishes at 7 > 6
+        long[] response = RMScheduler.responseTimes(tasks(new int[][]{{4, 2}, {6, 3}}));
+        assertEquals(2, response[0]);
+        assertTrue(response[1] > 6);
+    }
+
+    @Test
+    void ordersByPeriodNotByIndex() {
+        long[] response = RMScheduler.responseTimes(tasks(new int[][]{{10, 3}, {3, 1}, {5, 1}}));
+        // R = 3 + ceil(R / 3) + ceil(R / 5) settles at 8
+        assertArrayEquals(new long[]{8, 1, 2}, response);
+    }
+
+    @Test
+    void agreesWithSimulationOverTheHyperperiod() {
+        SplittableRandom random = new SplittableRandom(5);
+        int schedulable = 0;
+        for (int trial = 0; trial < 20000; trial++) {
+            int n = 1 + random.nextInt(5);
+            int[][] spec = new int[n][];
+            for (int i = 0; i < n; i++) {
+                int period = PERIODS[random.nextInt(PERIODS.length)];
+                spec[i] = new int[]{period, random.nextInt(period / 2 + 1)};
+            }
+            List<RMScheduler.Task> set = tasks(spec);
+            long[] response = RMScheduler.responseTimes(set);
+            boolean rtaSchedulable = true;
+            for (int i = 0; i < n; i++) {
+                rtaSchedulable &= response[i] <= spec[i][0];
+            }
+
+            // Run time of every job, and when each task's first job completes
+            int hp = (int) RMScheduler.calculateHyperPeriod(set);
+            int[][] ran = new int[n][hp];
+            RMScheduler.simulateRMS(set, hp, (id, start, end) -> {
+                if (id != SlotSink.IDLE) {
+                    for (long x = start; x < end; x++) {
+                        ran[id][(int) x] = 1;
+                    }
+                }
+            });
+            boolean simulatedSchedulable = true;
+            for (int i = 0; i < n; i++) {
+                int period = spec[i][0];
+                for (int release = 0; release < hp; release += period) {
+                    int got = 0;
+                    for (int x = release; x < release + period; x++) {
+                        got += ran[i][x];
+                    }
+                    simulatedSchedulable &= got >= spec[i][1];
+                }
+            }
+            assertEquals(simulatedSchedulable, rtaSchedulable, "trial " + trial);
+
+            // Synchronous release is the critical instant, so the first job takes the longest
+            if (rtaSchedulable) {
+                schedulable++;
+                for (int i = 0; i < n; i++) {
+                    assertEquals(response[i], firstCompletion(ran[i], spec[i][1]), "trial " + trial + ", task " + i);
+                }
+            }
+        }
+        assertTrue(schedulable > 1000 && schedulable < 19000, "too one-sided: " + schedulable);
+    }
+
+    @Test
+    void windowMatchesTheSameRangeOfAFullRun() {
+        SplittableRandom random = new SplittableRandom(13);
+        for (int trial = 0; trial < 3000; trial++) {
+            int n = 1 + random.nextInt(4);
+            int[][] spec = new int[n][];
+            for (int i = 0; i < n; i++) {
+                int period = PERIODS[random.nextInt(PERIODS.length)];
+                spec[i] = new int[]{period, random.nextInt(period + 1)};
+            }
+            List<RMScheduler.Task> set = tasks(spec);
+            long hp = RMScheduler.calculateHyperPeriod(set);
+            List<long[]> full = record(sink -> RMScheduler.simulateRMS(set, 5 * hp, sink));
+
+            // Mostly windows that start mid-hyperperiod, some on a boundary
+            long from = random.nextInt(4) == 0 ? hp * random.nextInt(4) : random.nextLong(4 * hp);
+            long to = from + random.nextLong(hp + 1);
+            assertSlotsEqual(clip(full, from, to), record(sink -> RMScheduler.simulateRMS(set, from, to, sink)),
+                    "trial " + trial);
+        }
+    }
+
+    @Test
+    void windowWithOverflowingHyperperiod() {
+        // Seventeen primes near 1000: the hyperperiod is far beyond 2^63, so the window is
+        // simulated from 0
+        int[] primes = {1009, 1013, 1019, 1021, 1031, 1033, 1039, 1049, 1051, 1061, 1063, 1069, 1087, 1091, 1093,
+                1097, 1103};
+        int[][] spec = new int[primes.length][];
+        for (int i = 0; i < primes.length; i++) {
+            spec[i] = new int[]{primes[i], 50};
+        }
+        List<RMScheduler.Task> set = tasks(spec);
+        assertThrows(ArithmeticException.class, () -> RMScheduler.calculateHyperPeriod(set));
+
+        long from = 1_234_567, to = from + 20_000;
+        List<long[]> full = record(sink -> RMScheduler.simulateRMS(set, to, sink));
+        assertSlotsEqual(clip(full, from, to), record(sink -> RMScheduler.simulateRMS(set, from, to, sink)), "");
+    }
+
+    @Test
+    void windowNearTheEndOfTime() {
+        // Hyperperiod 60: a window ending just below Long.MAX_VALUE - 20 is the same range of the
+        // first hyperperiods, shifted
+        List<RMScheduler.Task> set = tasks(new int[][]{{4, 1}, {6, 2}, {20, 5}});
+        long to = Long.MAX_VALUE - 20;
+        long from = to - 200;
+        long origin = from - from % 60;
+        List<long[]> shifted = new ArrayList<>();
+        for (long[] slot : clip(record(sink -> RMScheduler.simulateRMS(set, 300, sink)), from - origin, to - origin)) {
+            shifted.add(new long[]{slot[0], slot[1] + origin, slot[2] + origin});
+        }
+        assertSlotsEqual(shifted, record(sink -> RMScheduler.simulateRMS(set, from, to, sink)), "");
+
+        assertThrows(IllegalArgumentException.class, () -> RMScheduler.simulateRMS(set, from, to + 1, sink()));
+        assertThrows(IllegalArgumentException.class, () -> RMScheduler.simulateRMS(set, 10, 5, sink()));
+        assertThrows(IllegalArgumentException.class, () -> RMScheduler.simulateRMS(set, -1, 5, sink()));
+    }
+
+    // Slots as {taskId, start, end}
+    static List<long[]> record(Consumer<SlotSink> simulation) {
+        List<long[]> slots = new ArrayList<>();
+        simulation.accept((id, start, end) -> slots.add(new long[]{id, start, end}));
+        return slots;
+    }
+
+    // The slots of a full run cut to [from, to), merged the way MergingSlotSink merges them
+    static List<long[]> clip(List<long[]> full, long from, long to) {
+        List<long[]> clipped = new ArrayList<>();
+        for (long[] slot : full) {
+            long start = Math.max(slot[1], from);
+            long end = Math.min(slot[2], to);
+            if (start >= end) {
+                continue;
+            }
+            long[] last = clipped.isEmpty() ? null : clipped.get(clipped.size() - 1);
+            if (last != null && last[0] == slot[0] && last[2] == start) {
+                last[2] = end;
+            } else {
+                clipped.add(new long[]{slot[0], start, end});
+            }
+        }
+        return clipped;
+    }
+
+    static void assertSlotsEqual(List<long[]> expected, List<long[]> actual, String message) {
+        assertEquals(expected.size(), actual.size(), message);
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), message + ", slot " + i);
+        }
+    }
+
+    private static SlotSink sink() {
+        return (id, start, end) -> {
+        };
+    }
+
+    // End of the unit in which the first job's wcet-th unit ran, 0 for an empty job
+    private static long firstCompletion(int[] ran, int wcet) {
+        int done = 0;
+        for (int x = 0; x < ran.length && done < wcet; x++) {
+            done += ran[x];
+            if (done == wcet) {
+                return x + 1;
+            }
+        }
+        return 0;
+    }
+
+    // {period, wcet} per task
+    private static List<RMScheduler.Task> tasks(int[][] spec) {
+        List<RMScheduler.Task> taskList = new ArrayList<>();
+        for (int i = 0; i < spec.length; i++) {
+            taskList.add(new RMScheduler.Task(i, spec[i][0], spec[i][1]));
+        }
+        return taskList;
+    }
+}
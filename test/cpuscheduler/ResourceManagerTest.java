@@ -0,0 +1,133 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceManagerTest {
+
+    @Test
+    void decidesLikeAFullCheckOnACopy() {
+        SplittableRandom random = new SplittableRandom(18);
+        long fast = 0;
+        long[] decided = new long[ResourceManager.Decision.values().length];
+        for (int trial = 0; trial < 300; trial++) {
+            int P = 1 + random.nextInt(20);
+            int R = 1 + random.nextInt(4);
+            BankersState model = new BankersState(P, R);
+            for (int j = 0; j < R; j++) {
+                model.available[j] = random.nextInt(8);
+            }
+            for (int p = 0; p < P; p++) {
+                for (int j = 0; j < R; j++) {
+                    int max = random.nextInt(6);
+                    model.set(p, j, max, random.nextInt(max + 1));
+                }
+            }
+            ResourceManager manager = new ResourceManager(copy(model));
+
+            for (int op = 0; op < 300; op++) {
+                int p = random.nextInt(P);
+                int[] amount = new int[R];
+                if (random.nextInt(3) > 0) {
+                    for (int j = 0; j < R; j++) {
+                        amount[j] = random.nextInt(model.need(p, j) + 1);
+                    }
+                    ResourceManager.Decision expected = expectedDecision(model, p, amount);
+                    assertEquals(expected, manager.request(p, amount), "trial " + trial + ", op " + op);
+                    if (expected == ResourceManager.Decision.GRANTED) {
+                        move(model, p, amount, 1);
+                    }
+                    decided[expected.ordinal()]++;
+                } else {
+                    for (int j = 0; j < R; j++) {
+                        amount[j] = random.nextInt(model.allocation[p * R + j] + 1);
+                    }
+                    manager.release(p, amount);
+                    move(model, p, amount, -1);
+                }
+
+                for (int j = 0; j < R; j++) {
+                    assertEquals(model.available[j], manager.available(j));
+                    assertEquals(model.allocation[p * R + j], manager.allocated(p, j));
+                }
+                boolean safe = new SafetyCheck(P, R).isSafe(model);
+                assertEquals(safe, manager.isSafe(), "trial " + trial + ", op " + op);
+                if (safe) {
+                    assertTrue(replays(model, manager.safeSequence()), "trial " + trial + ", op " + op);
+                }
+            }
+            fast += manager.fastChecks();
+        }
+        // Every kind of decision and the fast path were exercised
+        for (long count : decided) {
+            assertTrue(count > 100);
+        }
+        assertTrue(fast > 100);
+    }
+
+    @Test
+    void rejectsRequestsBeyondTheClaimAndReleasesBeyondTheAllocation() {
+        BankersState s = new BankersState(1, 1);
+        s.set(0, 0, 3, 1);
+        s.available[0] = 5;
+        ResourceManager manager = new ResourceManager(s);
+        assertThrows(IllegalArgumentException.class, () -> manager.request(0, new int[]{3}));
+        assertThrows(IllegalArgumentException.class, () -> manager.release(0, new int[]{2}));
+        assertEquals(ResourceManager.Decision.GRANTED, manager.request(0, new int[]{2}));
+        manager.releaseAll(0);
+        assertEquals(0, manager.allocated(0, 0));
+        assertEquals(6, manager.available(0));
+    }
+
+    // WAIT if it does not fit; otherwise grant on a copy and run the full check
+    private static ResourceManager.Decision expectedDecision(BankersState s, int p, int[] req) {
+        for (int j = 0; j < s.resources; j++) {
+            if (req[j] > s.available[j]) {
+                return ResourceManager.Decision.WAIT;
+            }
+        }
+        BankersState granted = copy(s);
+        move(granted, p, req, 1);
+        return new SafetyCheck(s.processes, s.resources).isSafe(granted)
+                ? ResourceManager.Decision.GRANTED : ResourceManager.Decision.UNSAFE;
+    }
+
+    private static void move(BankersState s, int p, int[] amount, int sign) {
+        for (int j = 0; j < s.resources; j++) {
+            int i = p * s.resources + j;
+            s.available[j] -= sign * amount[j];
+            s.allocation[i] += sign * amount[j];
+            s.need[i] -= sign * amount[j];
+        }
+    }
+
+    private static BankersState copy(BankersState s) {
+        BankersState c = new BankersState(s.processes, s.resources);
+        System.arraycopy(s.max, 0, c.max, 0, s.max.length);
+        System.arraycopy(s.allocation, 0, c.allocation, 0, s.allocation.length);
+        System.arraycopy(s.need, 0, c.need, 0, s.need.length);
+        System.arraycopy(s.available, 0, c.available, 0, s.available.length);
+        return c;
+    }
+
+    private static boolean replays(BankersState s, int[] sequence) {
+        int R = s.resources;
+        int[] work = s.available.clone();
+        for (int p : sequence) {
+            for (int j = 0; j < R; j++) {
+                if (s.need[p * R + j] > work[j]) {
+                    return false;
+                }
+            }
+            for (int j = 0; j < R; j++) {
+                work[j] += s.allocation[p * R + j];
+            }
+        }
+        return sequence.length == s.processes;
+    }
+}
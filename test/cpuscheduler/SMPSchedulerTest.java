@@ -0,0 +1,113 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SMPSchedulerTest {
+
+    @Test
+    void validSchedulesOnRandomWorkloads() {
+        SplittableRandom random = new SplittableRandom(10);
+        for (int trial = 0; trial < 3000; trial++) {
+            int cpus = 1 + random.nextInt(4);
+            int n = 1 + random.nextInt(30);
+            ProcessTable t = new ProcessTable();
+            int[] affinity = new int[n];
+            for (int i = 0; i < n; i++) {
+                t.add("P" + i, random.nextInt(40), 1 + random.nextInt(15), random.nextInt(5));
+                affinity[i] = random.nextInt(3) == 0 ? random.nextInt(cpus) : -1;
+            }
+            int quantum = random.nextInt(5);
+            List<GanttEntry> entries = new ArrayList<>();
+            new SMPScheduler(cpus, affinity).schedule(t, entries, quantum);
+            String message = "trial " + trial;
+
+            // Each process runs exactly its burst, never before arriving, and completes once at
+            // the end of its last slice
+            int[] ran = new int[n];
+            int[] lastEnd = new int[n];
+            for (GanttEntry e : entries) {
+                int p = Integer.parseInt(e.pid.substring(1));
+                assertTrue(e.cpu >= 0 && e.cpu < cpus, message);
+                assertTrue(e.start < e.end && e.start >= t.arrivalTime[p], message);
+                if (affinity[p] >= 0) {
+                    assertEquals(affinity[p], e.cpu, message + ", pinned " + e.pid);
+                }
+                ran[p] += e.end - e.start;
+                lastEnd[p] = Math.max(lastEnd[p], e.end);
+            }
+            for (int p = 0; p < n; p++) {
+                assertEquals(t.burstTime[p], ran[p], message + ", P" + p);
+                assertEquals(0, t.remainingTime[p], message + ", P" + p);
+                assertEquals(lastEnd[p], t.completionTime[p], message + ", P" + p);
+                assertEquals(t.completionTime[p] - t.arrivalTime[p] - t.burstTime[p], t.waitingTime[p], message);
+            }
+
+            // A CPU runs one slice at a time, and a process runs on one CPU at a time
+            assertNoOverlap(entries, e -> e.cpu, cpus, message);
+            assertNoOverlap(entries, e -> Integer.parseInt(e.pid.substring(1)), n, message);
+
+            ScheduleMetrics.of(t, entries, cpus);
+        }
+    }
+
+    @Test
+    void idleCpuStealsFromABackedUpQueue() {
+        // A holds CPU 0 until 10 and B holds CPU 1 until 2. C, D and E arrive at 1 and are
+        // spread C, E on CPU 0 and D on CPU 1. Once D is done CPU 1 takes E, then C, instead of
+        // leaving them behind A.
+        ProcessTable t = new ProcessTable();
+        t.add("A", 0, 10, 0);
+        t.add("B", 0, 2, 0);
+        t.add("C", 1, 3, 0);
+        t.add("D", 1, 1, 0);
+        t.add("E", 1, 3, 0);
+        List<GanttEntry> entries = new ArrayList<>();
+        new SMPScheduler(2, new int[]{0, 1, -1, -1, -1}).schedule(t, entries, 0);
+
+        entries.sort(Comparator.comparingInt((GanttEntry e) -> e.cpu).thenComparingInt(e -> e.start));
+        List<String> slices = new ArrayList<>();
+        for (GanttEntry e : entries) {
+            slices.add(e.pid + "@" + e.cpu + ":" + e.start + "-" + e.end);
+        }
+        assertEquals(List.of("A@0:0-10", "B@1:0-2", "D@1:2-3", "E@1:3-6", "C@1:6-9"), slices);
+    }
+
+    @Test
+    void rejectsOutOfRangeCpus() {
+        ProcessTable t = new ProcessTable();
+        t.add("P0", 0, 3, 0);
+        t.add("P1", 0, 3, 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> new SMPScheduler(2, new int[]{-1, 2}).schedule(t.withFreshResults(), new ArrayList<>(), 2));
+        assertThrows(IllegalArgumentException.class, () -> new SMPScheduler(0));
+        assertThrows(IllegalArgumentException.class, () -> new SMPScheduler(-1, new int[]{-1, -1}));
+    }
+
+    // Slices grouped by lane (a CPU or a process) must not overlap in time
+    private static void assertNoOverlap(List<GanttEntry> entries, ToIntFunction<GanttEntry> lane, int lanes,
+                                        String message) {
+        List<List<GanttEntry>> byLane = new ArrayList<>();
+        for (int i = 0; i < lanes; i++) {
+            byLane.add(new ArrayList<>());
+        }
+        for (GanttEntry e : entries) {
+            byLane.get(lane.applyAsInt(e)).add(e);
+        }
+        for (List<GanttEntry> slices : byLane) {
+            slices.sort(Comparator.comparingInt(e -> e.start));
+            for (int i = 1; i < slices.size(); i++) {
+                assertTrue(slices.get(i - 1).end <= slices.get(i).start, message);
+            }
+        }
+    }
+}
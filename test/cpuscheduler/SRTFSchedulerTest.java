@@ -0,0 +1,112 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The event-driven scheduler against the one-time-unit-per-pass loop it replaced. Arrival
+// times are distinct, so no two processes tie on both remaining time and arrival.
+class SRTFSchedulerTest {
+
+    @Test
+    void matchesTickByTickReference() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int trial = 0; trial < 5000; trial++) {
+            ProcessTable t = distinctArrivals(random, 1 + random.nextInt(10), 0);
+            List<GanttEntry> expected = new ArrayList<>();
+            ProcessTable reference = t.withFreshResults();
+            reference(reference, expected);
+
+            List<GanttEntry> actual = new ArrayList<>();
+            ProcessTable run = t.withFreshResults();
+            new SRTFScheduler().schedule(run, actual, 2);
+
+            assertSameGantt(expected, actual, "trial " + trial);
+            assertArrayEquals(reference.startTime, run.startTime, "trial " + trial);
+            assertArrayEquals(reference.completionTime, run.completionTime, "trial " + trial);
+            assertArrayEquals(reference.waitingTime, run.waitingTime, "trial " + trial);
+        }
+    }
+
+    // Arrivals are a random choice of distinct times below 4 * n; priorities random below `priorities`
+    static ProcessTable distinctArrivals(SplittableRandom random, int n, int priorities) {
+        int[] times = new int[4 * n];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = i;
+        }
+        ProcessTable t = new ProcessTable();
+        for (int i = 0; i < n; i++) {
+            int k = i + random.nextInt(times.length - i);
+            int arrival = times[k];
+            times[k] = times[i];
+            t.add("P" + i, arrival, 1 + random.nextInt(12), priorities > 0 ? random.nextInt(priorities) : 0);
+        }
+        return t;
+    }
+
+    static void assertSameGantt(List<GanttEntry> expected, List<GanttEntry> actual, String message) {
+        assertEquals(expected.size(), actual.size(), message);
+        for (int i = 0; i < expected.size(); i++) {
+            GanttEntry e = expected.get(i);
+            GanttEntry a = actual.get(i);
+            assertEquals(e.pid + " " + e.start + "-" + e.end, a.pid + " " + a.start + "-" + a.end, message);
+        }
+    }
+
+    // Per time unit: admit arrivals, preempt if a ready process has strictly less remaining
+    // time, otherwise pick the least remaining time (then the earliest arrival), run one unit
+    private static void reference(ProcessTable t, List<GanttEntry> ganttEntries) {
+        int n = t.size();
+        boolean[] ready = new boolean[n];
+        boolean[] arrived = new boolean[n];
+        int done = 0;
+        int current = -1;
+        int sliceStart = -1;
+        for (int time = 0; done < n; ) {
+            for (int p = 0; p < n; p++) {
+                if (!arrived[p] && t.arrivalTime[p] <= time) {
+                    arrived[p] = true;
+                    ready[p] = true;
+                }
+            }
+            int best = -1;
+            for (int p = 0; p < n; p++) {
+                if (ready[p] && (best == -1 || t.remainingTime[p] < t.remainingTime[best]
+                        || (t.remainingTime[p] == t.remainingTime[best] && t.arrivalTime[p] < t.arrivalTime[best]))) {
+                    best = p;
+                }
+            }
+            if (current != -1 && best != -1 && t.remainingTime[best] < t.remainingTime[current]) {
+                ganttEntries.add(new GanttEntry(t.pid(current), sliceStart, time));
+                ready[current] = true;
+                current = -1;
+            }
+            if (current == -1 && best != -1) {
+                current = best;
+                ready[current] = false;
+                if (t.startTime[current] == -1) {
+                    t.startTime[current] = time;
+                }
+                sliceStart = time;
+            }
+            time++;
+            if (current == -1) {
+                continue;
+            }
+            if (--t.remainingTime[current] == 0) {
+                ganttEntries.add(new GanttEntry(t.pid(current), sliceStart, time));
+                t.completionTime[current] = time;
+                t.turnaroundTime[current] = time - t.arrivalTime[current];
+                t.waitingTime[current] = t.turnaroundTime[current] - t.burstTime[current];
+                t.responseTime[current] = t.startTime[current] - t.arrivalTime[current];
+                current = -1;
+                done++;
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SafetyCheckTest {
+
+    @Test
+    void textbookExample() {
+        // Silberschatz's five processes and three resources: safe, e.g. P1 P3 P4 P0 P2
+        int[][] max = {{7, 5, 3}, {3, 2, 2}, {9, 0, 2}, {2, 2, 2}, {4, 3, 3}};
+        int[][] allocation = {{0, 1, 0}, {2, 0, 0}, {3, 0, 2}, {2, 1, 1}, {0, 0, 2}};
+        BankersState s = BankersState.from(max, allocation, new int[]{3, 3, 2}, 5, 3);
+        int[] sequence = new SafetyCheck(5, 3).safeSequence(s);
+        assertTrue(replays(s, sequence));
+
+        s.available[0] = 1;
+        s.available[1] = 0;
+        s.available[2] = 0;
+        assertNull(new SafetyCheck(5, 3).safeSequence(s));
+    }
+
+    @Test
+    void matchesTheRescanningCheck() {
+        SplittableRandom random = new SplittableRandom(16);
+        SafetyCheck reused = new SafetyCheck(40, 6);
+        int safe = 0;
+        for (int trial = 0; trial < 20000; trial++) {
+            int P = 1 + random.nextInt(40);
+            int R = 1 + random.nextInt(6);
+            BankersState s = new BankersState(P, R);
+            for (int j = 0; j < R; j++) {
+                s.available[j] = random.nextInt(6);
+            }
+            for (int p = 0; p < P; p++) {
+                for (int j = 0; j < R; j++) {
+                    int max = random.nextInt(8);
+                    s.set(p, j, max, random.nextInt(max + 1));
+                }
+            }
+
+            boolean expected = rescanningIsSafe(s);
+            assertEquals(expected, new SafetyCheck(P, R).isSafe(s), "trial " + trial);
+            assertEquals(expected, reused.isSafe(s), "trial " + trial);
+            int[] sequence = reused.safeSequence(s);
+            assertEquals(expected, sequence != null, "trial " + trial);
+            if (expected) {
+                assertTrue(replays(s, sequence), "trial " + trial);
+                safe++;
+            }
+        }
+        assertTrue(safe > 2000 && safe < 18000, "too one-sided: " + safe);
+    }
+
+    @Test
+    void leavesTheStateUnchanged() {
+        int[][] max = {{3, 2}, {2, 2}, {4, 1}};
+        int[][] allocation = {{1, 1}, {1, 0}, {2, 1}};
+        BankersState s = BankersState.from(max, allocation, new int[]{1, 1}, 3, 2);
+        int[] need = s.need.clone();
+        int[] held = s.allocation.clone();
+        int[] available = s.available.clone();
+        new SafetyCheck(3, 2).safeSequence(s);
+        assertArrayEquals(need, s.need);
+        assertArrayEquals(held, s.allocation);
+        assertArrayEquals(available, s.available);
+    }
+
+    // The loop SafetyCheck replaced: scan every unfinished process until none can finish
+    private static boolean rescanningIsSafe(BankersState s) {
+        int P = s.processes;
+        int R = s.resources;
+        int[] work = s.available.clone();
+        boolean[] finished = new boolean[P];
+        int count = 0;
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int p = 0; p < P; p++) {
+                if (finished[p]) {
+                    continue;
+                }
+                boolean fits = true;
+                for (int j = 0; j < R; j++) {
+                    fits &= s.need[p * R + j] <= work[j];
+                }
+                if (fits) {
+                    for (int j = 0; j < R; j++) {
+                        work[j] += s.allocation[p * R + j];
+                    }
+                    finished[p] = true;
+                    count++;
+                    progress = true;
+                }
+            }
+        }
+        return count == P;
+    }
+
+    // True if running the processes in this order never needs more than is free
+    private static boolean replays(BankersState s, int[] sequence) {
+        int R = s.resources;
+        int[] work = s.available.clone();
+        boolean[] seen = new boolean[s.processes];
+        for (int p : sequence) {
+            if (seen[p]) {
+                return false;
+            }
+            seen[p] = true;
+            for (int j = 0; j < R; j++) {
+                if (s.need[p * R + j] > work[j]) {
+                    return false;
+                }
+            }
+            for (int j = 0; j < R; j++) {
+                work[j] += s.allocation[p * R + j];
+            }
+        }
+        return sequence.length == s.processes;
+    }
+}
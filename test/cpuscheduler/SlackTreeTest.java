@@ -0,0 +1,76 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlackTreeTest {
+
+    @Test
+    void prefixMinimumPerResource() {
+        // Three positions, two resources
+        int[] slack = {5, 1,
+                       2, 4,
+                       0, 9};
+        SlackTree tree = new SlackTree(3, 2);
+        tree.build(slack, 3);
+
+        assertTrue(tree.prefixAtLeast(0, new int[]{100, 100}));   // empty prefix
+        assertTrue(tree.prefixAtLeast(1, new int[]{5, 1}));
+        assertFalse(tree.prefixAtLeast(1, new int[]{5, 2}));
+        assertTrue(tree.prefixAtLeast(2, new int[]{2, 1}));
+        assertFalse(tree.prefixAtLeast(2, new int[]{3, 0}));
+        assertFalse(tree.prefixAtLeast(3, new int[]{1, 0}));
+
+        // Take 2 of resource 0 from the first two positions: minimum over them becomes 0
+        tree.addPrefix(2, new int[]{2, 0}, -1);
+        assertTrue(tree.prefixAtLeast(2, new int[]{0, 1}));
+        assertFalse(tree.prefixAtLeast(2, new int[]{1, 0}));
+        tree.addPrefix(1, new int[]{0, 3}, 1);
+        assertTrue(tree.prefixAtLeast(1, new int[]{3, 4}));
+    }
+
+    @Test
+    void matchesArrayOfMinima() {
+        SplittableRandom random = new SplittableRandom(17);
+        for (int trial = 0; trial < 500; trial++) {
+            int n = 1 + random.nextInt(70);
+            int R = 1 + random.nextInt(4);
+            int[] slack = new int[n * R];
+            for (int i = 0; i < slack.length; i++) {
+                slack[i] = random.nextInt(20) - 5;
+            }
+            SlackTree tree = new SlackTree(n + random.nextInt(5), R);
+            tree.build(slack, n);
+
+            for (int op = 0; op < 200; op++) {
+                int end = random.nextInt(n + 1);
+                int[] amount = new int[R];
+                for (int j = 0; j < R; j++) {
+                    amount[j] = random.nextInt(6);
+                }
+                if (random.nextBoolean()) {
+                    int sign = random.nextBoolean() ? 1 : -1;
+                    tree.addPrefix(end, amount, sign);
+                    for (int k = 0; k < end; k++) {
+                        for (int j = 0; j < R; j++) {
+                            slack[k * R + j] += sign * amount[j];
+                        }
+                    }
+                } else {
+                    boolean expected = true;
+                    for (int k = 0; k < end; k++) {
+                        for (int j = 0; j < R; j++) {
+                            expected &= slack[k * R + j] >= amount[j];
+                        }
+                    }
+                    assertEquals(expected, tree.prefixAtLeast(end, amount), "trial " + trial + ", op " + op);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StrideSchedulerTest {
+
+    @Test
+    void randomWorkloadsGiveValidSchedules() {
+        SplittableRandom random = new SplittableRandom(4);
+        for (int trial = 0; trial < 3000; trial++) {
+            ProcessTable t = LotterySchedulerTest.randomWorkload(random);
+            List<GanttEntry> ganttEntries = new ArrayList<>();
+            new StrideScheduler().schedule(t, ganttEntries, 1 + random.nextInt(4));
+            LotterySchedulerTest.assertValid(t, ganttEntries, "trial " + trial);
+        }
+    }
+
+    @Test
+    void cpuTimeFollowsTicketsExactly() {
+        int[] tickets = {1, 2, 4, 8};
+        ProcessTable t = new ProcessTable();
+        for (int i = 0; i < tickets.length; i++) {
+            t.add("P" + i, 0, 1000000, tickets[i]);
+        }
+        List<GanttEntry> ganttEntries = new ArrayList<>();
+        new StrideScheduler().schedule(t, ganttEntries, 1);
+
+        // Each share is off by at most a quantum or so at any point
+        int window = 15000;
+        Map<String, Integer> ran = LotterySchedulerTest.share(ganttEntries, window);
+        for (int i = 0; i < tickets.length; i++) {
+            assertEquals(window * tickets[i] / 15.0, ran.getOrDefault("P" + i, 0), 2, "P" + i);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Random add/remove sequences checked against a plain adjacency-set graph, where an edge closes
+// a cycle exactly when the holder already reaches the waiter
+class WaitForGraphTest {
+
+    @Test
+    void reportsTheCycleAndLeavesTheGraphUnchanged() {
+        WaitForGraph g = new WaitForGraph(4);
+        assertNull(g.addEdge(0, 1));
+        assertNull(g.addEdge(1, 2));
+        assertNull(g.addEdge(2, 3));
+
+        assertArrayEquals(new int[]{3, 0, 1, 2}, g.addEdge(3, 0));
+        assertFalse(g.hasEdge(3, 0));
+        assertEquals(3, g.edges());
+
+        assertTrue(g.removeEdge(1, 2));
+        assertNull(g.addEdge(3, 0));
+        assertArrayEquals(new int[]{2}, g.addEdge(2, 2));
+    }
+
+    @Test
+    void repeatedEdgesNeedAsManyRemovals() {
+        WaitForGraph g = new WaitForGraph(2);
+        g.addEdge(0, 1);
+        g.addEdge(0, 1);
+        assertEquals(1, g.edges());
+        assertTrue(g.removeEdge(0, 1));
+        assertTrue(g.hasEdge(0, 1));
+        assertTrue(g.removeEdge(0, 1));
+        assertFalse(g.hasEdge(0, 1));
+        assertFalse(g.removeEdge(0, 1));
+    }
+
+    @Test
+    void matchesBruteForceReachability() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int trial = 0; trial < 200; trial++) {
+            int n = 2 + random.nextInt(40);
+            WaitForGraph g = new WaitForGraph(n);
+            List<Set<Integer>> ref = new ArrayList<>();
+            for (int p = 0; p < n; p++) {
+                ref.add(new HashSet<>());
+            }
+            Map<Long, Integer> count = new HashMap<>();
+
+            for (int step = 0; step < 1000; step++) {
+                int u = random.nextInt(n);
+                int v = random.nextInt(n);
+                int op = random.nextInt(10);
+                if (op < 6) {
+                    boolean closesCycle = !ref.get(u).contains(v) && reaches(ref, v, u);
+                    int[] cycle = g.addEdge(u, v);
+                    assertEquals(closesCycle, cycle != null);
+                    if (cycle != null) {
+                        assertCycle(ref, cycle, u, v);
+                    } else {
+                        ref.get(u).add(v);
+                        count.merge(key(u, v), 1, Integer::sum);
+                    }
+                } else if (op < 9) {
+                    boolean had = ref.get(u).contains(v);
+                    assertEquals(had, g.removeEdge(u, v));
+                    if (had && count.merge(key(u, v), -1, Integer::sum) == 0) {
+                        count.remove(key(u, v));
+                        ref.get(u).remove(v);
+                    }
+                } else {
+                    g.removeAll(u);
+                    for (int x : ref.get(u)) {
+                        count.remove(key(u, x));
+                    }
+                    ref.get(u).clear();
+                    for (int w = 0; w < n; w++) {
+                        if (ref.get(w).remove(u)) {
+                            count.remove(key(w, u));
+                        }
+                    }
+                }
+            }
+
+            long edges = 0;
+            for (int w = 0; w < n; w++) {
+                Set<Integer> waitsOn = new HashSet<>();
+                for (int x : g.waitsOn(w)) {
+                    waitsOn.add(x);
+                }
+                assertEquals(ref.get(w), waitsOn);
+                edges += ref.get(w).size();
+            }
+            assertEquals(edges, g.edges());
+        }
+    }
+
+    // The cycle starts with the new edge and follows existing edges back to the waiter
+    private static void assertCycle(List<Set<Integer>> ref, int[] cycle, int waiter, int holder) {
+        assertNotNull(cycle);
+        assertEquals(waiter, cycle[0]);
+        if (waiter == holder) {
+            assertEquals(1, cycle.length);
+            return;
+        }
+        assertEquals(holder, cycle[1]);
+        for (int k = 1; k < cycle.length; k++) {
+            int next = cycle[(k + 1) % cycle.length];
+            assertTrue(ref.get(cycle[k]).contains(next), "missing edge " + cycle[k] + " -> " + next);
+        }
+    }
+
+    private static boolean reaches(List<Set<Integer>> graph, int from, int to) {
+        Deque<Integer> stack = new ArrayDeque<>();
+        Set<Integer> seen = new HashSet<>();
+        stack.push(from);
+        seen.add(from);
+        while (!stack.isEmpty()) {
+            int w = stack.pop();
+            if (w == to) {
+                return true;
+            }
+            for (int x : graph.get(w)) {
+                if (seen.add(x)) {
+                    stack.push(x);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long key(int u, int v) {
+        return ((long) u << 32) | v;
+    }
+}
@@ -0,0 +1,98 @@
+package cpuscheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WhatIfAnalysisTest {
+
+    @Test
+    void matchesCopyingTheStateForEachCandidate() {
+        SplittableRandom random = new SplittableRandom(19);
+        long[] decided = new long[ResourceManager.Decision.values().length];
+        for (int trial = 0; trial < 200; trial++) {
+            int P = 1 + random.nextInt(25);
+            int R = 1 + random.nextInt(4);
+            BankersState state = new BankersState(P, R);
+            for (int j = 0; j < R; j++) {
+                state.available[j] = random.nextInt(8);
+            }
+            for (int p = 0; p < P; p++) {
+                for (int j = 0; j < R; j++) {
+                    int max = random.nextInt(7);
+                    state.set(p, j, max, random.nextInt(max + 1));
+                }
+            }
+            // Several chunks' worth; amounts go up to the claim, so some exceed `available`
+            WhatIfAnalysis.Request[] candidates = new WhatIfAnalysis.Request[random.nextInt(400)];
+            for (int i = 0; i < candidates.length; i++) {
+                int p = random.nextInt(P);
+                int[] amounts = new int[R];
+                for (int j = 0; j < R; j++) {
+                    amounts[j] = random.nextInt(state.need(p, j) + 1);
+                }
+                candidates[i] = new WhatIfAnalysis.Request(p, amounts);
+            }
+            int[] need = state.need.clone();
+            int[] allocation = state.allocation.clone();
+            int[] available = state.available.clone();
+
+            ResourceManager.Decision[] decisions = new WhatIfAnalysis(state).evaluate(candidates);
+            assertEquals(candidates.length, decisions.length);
+            for (int i = 0; i < candidates.length; i++) {
+                assertEquals(copyAndCheck(state, candidates[i]), decisions[i], "trial " + trial + ", candidate " + i);
+                decided[decisions[i].ordinal()]++;
+            }
+            assertArrayEquals(need, state.need);
+            assertArrayEquals(allocation, state.allocation);
+            assertArrayEquals(available, state.available);
+
+            int granted = 0;
+            for (ResourceManager.Decision d : decisions) {
+                granted += d == ResourceManager.Decision.GRANTED ? 1 : 0;
+            }
+            assertEquals(granted, WhatIfAnalysis.granted(decisions).length);
+        }
+        for (long count : decided) {
+            assertTrue(count > 100);
+        }
+    }
+
+    @Test
+    void rejectsCandidatesBeyondTheClaim() {
+        BankersState state = new BankersState(2, 1);
+        state.set(0, 0, 3, 1);
+        state.available[0] = 4;
+        WhatIfAnalysis analysis = new WhatIfAnalysis(state);
+        assertThrows(IllegalArgumentException.class,
+                () -> analysis.evaluate(new WhatIfAnalysis.Request[]{new WhatIfAnalysis.Request(0, new int[]{3})}));
+        assertThrows(IllegalArgumentException.class,
+                () -> analysis.evaluate(new WhatIfAnalysis.Request[]{new WhatIfAnalysis.Request(2, new int[]{0})}));
+    }
+
+    // What WhatIfBenchmark.copyEach does: copy the state, grant, run a full check
+    private static ResourceManager.Decision copyAndCheck(BankersState state, WhatIfAnalysis.Request c) {
+        int R = state.resources;
+        BankersState copy = new BankersState(state.processes, R);
+        System.arraycopy(state.max, 0, copy.max, 0, state.max.length);
+        System.arraycopy(state.allocation, 0, copy.allocation, 0, state.allocation.length);
+        System.arraycopy(state.need, 0, copy.need, 0, state.need.length);
+        System.arraycopy(state.available, 0, copy.available, 0, R);
+        for (int j = 0; j < R; j++) {
+            if (c.amounts[j] > copy.available[j]) {
+                return ResourceManager.Decision.WAIT;
+            }
+        }
+        for (int j = 0; j < R; j++) {
+            copy.available[j] -= c.amounts[j];
+            copy.set(c.process, j, copy.max[c.process * R + j], copy.allocation[c.process * R + j] + c.amounts[j]);
+        }
+        return new SafetyCheck(state.processes, R).isSafe(copy)
+                ? ResourceManager.Decision.GRANTED : ResourceManager.Decision.UNSAFE;
+    }
+}